@@ -0,0 +1,113 @@
+package datastructures;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes to walk over all elements of the
+ * {@link CircularLinkedList}, the {@link UnrolledCircularList} and the
+ * {@link CircularArrayList}.
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see UnrolledCircularList
+ *
+ * @author stefanboodt
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CircularListIterationBenchmark {
+
+	/**
+	 * The amount of elements in the lists.
+	 */
+	@Param({"1000", "1000000"})
+	public int size;
+
+	/**
+	 * The linked list that is measured.
+	 */
+	private CircularLinkedList<Integer> linked;
+
+	/**
+	 * The unrolled list that is measured.
+	 */
+	private UnrolledCircularList<Integer> unrolled;
+
+	/**
+	 * The array list that is measured.
+	 */
+	private CircularArrayList<Integer> array;
+
+	/**
+	 * Fills the lists.
+	 */
+	@Setup
+	public void setUp() {
+		linked = new CircularLinkedList<Integer>();
+		unrolled = new UnrolledCircularList<Integer>();
+		array = new CircularArrayList<Integer>();
+		for (int i = 0; i < size; i++) {
+			linked.add(i);
+			unrolled.add(i);
+			array.add(i);
+		}
+	}
+
+	/**
+	 * Sums the elements of the linked list.
+	 * @return The sum.
+	 */
+	@Benchmark
+	public long linked() {
+		return sum(linked);
+	}
+
+	/**
+	 * Sums the elements of the unrolled list.
+	 * @return The sum.
+	 */
+	@Benchmark
+	public long unrolled() {
+		return sum(unrolled);
+	}
+
+	/**
+	 * Sums the elements of the array list.
+	 * @return The sum.
+	 */
+	@Benchmark
+	public long array() {
+		return sum(array);
+	}
+
+	/**
+	 * Sums the elements of a list.
+	 * @param list The list to sum.
+	 * @return The sum.
+	 */
+	private static long sum(Iterable<Integer> list) {
+		long sum = 0;
+		for (int el: list) {
+			sum += el;
+		}
+		return sum;
+	}
+}
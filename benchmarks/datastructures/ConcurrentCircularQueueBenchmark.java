@@ -0,0 +1,129 @@
+package datastructures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many elements per microsecond go through the
+ * {@link ConcurrentCircularQueue} with two producers and two consumers.
+ * The consumers either poll one element at a time or drain batches.
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see ConcurrentCircularQueue
+ *
+ * @author stefanboodt
+ *
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentCircularQueueBenchmark {
+
+	/**
+	 * The element that is passed around.
+	 */
+	private static final Integer ELEMENT = 1;
+
+	/**
+	 * The capacity of the queue.
+	 */
+	@Param({"1024", "65536"})
+	public int capacity;
+
+	/**
+	 * The queue that is measured.
+	 */
+	private ConcurrentCircularQueue<Integer> queue;
+
+	/**
+	 * Creates the queue.
+	 */
+	@Setup
+	public void setUp() {
+		queue = new ConcurrentCircularQueue<Integer>(capacity);
+	}
+
+	/**
+	 * Adds an element when there is room.
+	 * @return Whether the element was added.
+	 */
+	@Benchmark
+	@Group("single")
+	@GroupThreads(2)
+	public boolean offer() {
+		return queue.offer(ELEMENT);
+	}
+
+	/**
+	 * Takes an element when there is one.
+	 * @return The element, or null.
+	 */
+	@Benchmark
+	@Group("single")
+	@GroupThreads(2)
+	public Integer poll() {
+		return queue.poll();
+	}
+
+	/**
+	 * Adds an element when there is room.
+	 * @return Whether the element was added.
+	 */
+	@Benchmark
+	@Group("batch")
+	@GroupThreads(2)
+	public boolean offerBatched() {
+		return queue.offer(ELEMENT);
+	}
+
+	/**
+	 * Takes up to 64 elements at once.
+	 * @param drained The list the elements are drained to.
+	 * @return The amount of elements taken.
+	 */
+	@Benchmark
+	@Group("batch")
+	@GroupThreads(2)
+	public int drain(Drained drained) {
+		drained.elements.clear();
+		return queue.drainTo(drained.elements, 64);
+	}
+
+	/**
+	 * The list a consumer drains to.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	@State(Scope.Thread)
+	public static class Drained {
+
+		/**
+		 * The drained elements.
+		 */
+		List<Integer> elements = new ArrayList<Integer>(64);
+	}
+}
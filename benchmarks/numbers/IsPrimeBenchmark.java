@@ -0,0 +1,218 @@
+package numbers;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link PrimeNumberGenerator#isPrime(long)} for numbers of
+ * several magnitudes. An invocation checks {@link #NUMBERS} random odd
+ * numbers with the given amount of digits, so the reported time is the
+ * average time of one check over primes and composites. The numbers are
+ * the same in every run, so the results of two commits can be compared.
+ *
+ * <p>
+ * Trial division takes time in proportion to the square root of a
+ * prime, so it is only measured up to 12 digits. Miller-Rabin is
+ * measured for every magnitude, one number at a time and as a batch.
+ * </p>
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see PrimeNumberGenerator
+ * @see BufferedPrimeNumberGenerator
+ *
+ * @author stefanboodt
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsPrimeBenchmark {
+
+	/**
+	 * The amount of numbers checked by one invocation.
+	 */
+	static final int NUMBERS = 1 << 10;
+
+	/**
+	 * Checks the numbers with trial division, which uses the buffer of
+	 * the buffered generator.
+	 * @param state The generator and the numbers.
+	 * @return The amount of primes.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(NUMBERS)
+	public int trialDivision(TrialDivisionState state) {
+		return count(state.generator, state.numbers);
+	}
+
+	/**
+	 * Checks the numbers one at a time with Miller-Rabin.
+	 * @param state The generator and the numbers.
+	 * @return The amount of primes.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(NUMBERS)
+	public int millerRabin(MillerRabinState state) {
+		return count(state.generator, state.numbers);
+	}
+
+	/**
+	 * Checks the numbers at once with
+	 * {@link PrimeNumberGenerator#isPrime(long[], boolean[])}.
+	 * @param state The generator and the numbers.
+	 * @return The answers.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(NUMBERS)
+	public boolean[] batch(MillerRabinState state) {
+		state.generator.isPrime(state.numbers, state.answers);
+		return state.answers;
+	}
+
+	/**
+	 * Counts the primes among the numbers.
+	 * @param generator The generator that checks the numbers.
+	 * @param numbers The numbers.
+	 * @return The amount of primes.
+	 */
+	private static int count(PrimeNumberGenerator generator, long[] numbers) {
+		int count = 0;
+		for (long number : numbers) {
+			if (generator.isPrime(number)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Creates {@link #NUMBERS} random odd numbers with the given amount
+	 * of digits. The same amount of digits always gives the same numbers.
+	 * @param digits The amount of digits, from 2 to 18.
+	 * @return The numbers.
+	 */
+	static long[] numbers(int digits) {
+		Random random = new Random(digits);
+		long low = 1;
+		for (int i = 1; i < digits; i++) {
+			low *= 10;
+		}
+		long range = 9 * low;
+		long[] numbers = new long[NUMBERS];
+		for (int i = 0; i < numbers.length; i++) {
+			numbers[i] = (low + (random.nextLong() >>> 1) % range) | 1;
+		}
+		return numbers;
+	}
+
+	/**
+	 * The numbers and generator used for trial division.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see PrimalityTest#TRIAL_DIVISION
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	@State(Scope.Thread)
+	public static class TrialDivisionState {
+
+		/**
+		 * The amount of digits of the numbers.
+		 */
+		@Param({"3", "6", "9", "12"})
+		public int digits;
+
+		/**
+		 * Whether the {@link BufferedPrimeNumberGenerator} is used.
+		 */
+		@Param({"false", "true"})
+		public boolean buffered;
+
+		/**
+		 * The generator that checks the numbers.
+		 */
+		PrimeNumberGenerator generator;
+
+		/**
+		 * The numbers that are checked.
+		 */
+		long[] numbers;
+
+		/**
+		 * Creates the generator and the numbers.
+		 */
+		@Setup
+		public void setUp() {
+			generator = buffered ? new BufferedPrimeNumberGenerator()
+					: new PrimeNumberGenerator();
+			numbers = numbers(digits);
+		}
+	}
+
+	/**
+	 * The numbers and generator used for Miller-Rabin.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see PrimalityTest#MILLER_RABIN
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	@State(Scope.Thread)
+	public static class MillerRabinState {
+
+		/**
+		 * The amount of digits of the numbers.
+		 */
+		@Param({"3", "6", "9", "12", "15", "18"})
+		public int digits;
+
+		/**
+		 * The generator that checks the numbers.
+		 */
+		PrimeNumberGenerator generator;
+
+		/**
+		 * The numbers that are checked.
+		 */
+		long[] numbers;
+
+		/**
+		 * The answers of a batch.
+		 */
+		boolean[] answers;
+
+		/**
+		 * Creates the generator and the numbers.
+		 */
+		@Setup
+		public void setUp() {
+			generator = new PrimeNumberGenerator();
+			generator.setPrimalityTest(PrimalityTest.MILLER_RABIN);
+			numbers = numbers(digits);
+			answers = new boolean[NUMBERS];
+		}
+	}
+}
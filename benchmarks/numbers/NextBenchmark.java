@@ -0,0 +1,84 @@
+package numbers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many primes per millisecond a generator returns from
+ * {@link PrimeNumberGenerator#next()}. A new generator is created for
+ * every iteration, so every iteration walks through the same primes
+ * from the starting point.
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see PrimeNumberGenerator
+ * @see BufferedPrimeNumberGenerator
+ *
+ * @author stefanboodt
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NextBenchmark {
+
+	/**
+	 * The starting point of the generator.
+	 */
+	@Param({"2", "1000000000"})
+	public int start;
+
+	/**
+	 * Whether the {@link BufferedPrimeNumberGenerator} is used.
+	 */
+	@Param({"false", "true"})
+	public boolean buffered;
+
+	/**
+	 * The generator that is measured.
+	 */
+	private PrimeNumberGenerator generator;
+
+	/**
+	 * Creates a new generator at the starting point.
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() {
+		generator = buffered ? new BufferedPrimeNumberGenerator(start)
+				: new PrimeNumberGenerator(start);
+	}
+
+	/**
+	 * Gets the next prime as a boxed Long.
+	 * @return The next prime.
+	 */
+	@Benchmark
+	public Long next() {
+		return generator.next();
+	}
+
+	/**
+	 * Gets the next prime without boxing it.
+	 * @return The next prime.
+	 */
+	@Benchmark
+	public long nextLong() {
+		return generator.nextLong();
+	}
+}
@@ -0,0 +1,183 @@
+package numbers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures loading and saving the buffer of the
+ * {@link BufferedPrimeNumberGenerator}. The store is written to a
+ * temporary file, so the store in the files directory is not touched.
+ *
+ * <p>
+ * Loading is measured up to the answer of the first query, which is what
+ * a program waits for when it starts. Saving is measured for both
+ * {@link PersistenceMode persistence modes}: rewriting the whole store,
+ * and appending the primes of a grown buffer to the journal.
+ * </p>
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see PrimeStore
+ *
+ * @author stefanboodt
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimeStoreBenchmark {
+
+	/**
+	 * The amount of numbers a save appends to the journal.
+	 */
+	static final long GROWTH = 1 << 20;
+
+	/**
+	 * Maps the store and checks one number.
+	 * @param state The store.
+	 * @return Whether the number is prime.
+	 * @throws IOException If the store can't be read.
+	 */
+	@Benchmark
+	public boolean load(StoreState state) throws IOException {
+		return new PrimeStore(state.file).load().isPrime(state.limit - 1);
+	}
+
+	/**
+	 * Writes the whole buffer to the store.
+	 * @param state The store.
+	 * @throws IOException If the store can't be written.
+	 */
+	@Benchmark
+	public void rewrite(StoreState state) throws IOException {
+		state.store.save(state.bitmap);
+	}
+
+	/**
+	 * Appends the primes of a grown buffer to the journal.
+	 * @param state The store, which has just been saved.
+	 * @throws IOException If the journal can't be written.
+	 */
+	@Benchmark
+	public void journal(JournalState state) throws IOException {
+		state.store.append(state.grown);
+	}
+
+	/**
+	 * A store with a buffer up to the limit.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see PrimeStore
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	@State(Scope.Benchmark)
+	public static class StoreState {
+
+		/**
+		 * The limit of the buffer.
+		 */
+		@Param({"16777216", "1073741824"})
+		public long limit;
+
+		/**
+		 * The directory of the store.
+		 */
+		File directory;
+
+		/**
+		 * The file of the store.
+		 */
+		File file;
+
+		/**
+		 * The store.
+		 */
+		PrimeStore store;
+
+		/**
+		 * The buffer that is saved.
+		 */
+		PrimeBitmap bitmap;
+
+		/**
+		 * Sieves the buffer and saves it.
+		 * @throws IOException If the store can't be written.
+		 */
+		@Setup(Level.Trial)
+		public void setUp() throws IOException {
+			directory = Files.createTempDirectory("primes").toFile();
+			file = new File(directory, "primenumbers.bin");
+			store = new PrimeStore(file);
+			bitmap = PrimeBitmap.sieve(limit);
+			store.save(bitmap);
+		}
+
+		/**
+		 * Removes the store.
+		 */
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			for (File child : directory.listFiles()) {
+				child.delete();
+			}
+			directory.delete();
+		}
+	}
+
+	/**
+	 * A store that is saved again before every append, so every append
+	 * writes the same bytes to an empty journal.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see PrimeStore#append(PrimeBitmap)
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	@State(Scope.Benchmark)
+	public static class JournalState extends StoreState {
+
+		/**
+		 * The buffer grown by {@link PrimeStoreBenchmark#GROWTH} numbers.
+		 */
+		PrimeBitmap grown;
+
+		/**
+		 * Saves the buffer, which removes the journal. The grown buffer
+		 * is made the first time.
+		 * @throws IOException If the store can't be written.
+		 */
+		@Setup(Level.Invocation)
+		public void rewind() throws IOException {
+			if (grown == null) {
+				grown = bitmap.extend(limit + GROWTH);
+			}
+			store.save(bitmap);
+		}
+	}
+}
@@ -3,13 +3,14 @@ package datastructures;
 import interfaces.ResetableIterator;
 
 import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * This class has a default implementation of some methods in the List
  * interface.
  * 
  * @since 10-8-2014
- * @version 25-8-2014
+ * @version 18-10-2026
  * 
  * @see List
  * @see Cloneable
@@ -23,6 +24,22 @@ import java.util.*;
 public abstract class AbstractList<E> implements List<E>, Iterable<E>,
 	Cloneable {
 
+	/**
+	 * The size up to which a collection is searched by walking over it.
+	 * The bulk operations put larger collections in a HashSet first, so
+	 * every look up takes constant time.
+	 * @since 18-10-2026
+	 */
+	private static final int SCAN_LIMIT = 16;
+
+	/**
+	 * The amount of times the list has been structurally modified.
+	 * Subclasses increase it whenever the size changes, so iterators
+	 * can fail fast when the list is changed behind their back.
+	 * @since 18-10-2026
+	 */
+	protected int modCount = 0;
+
 	/**
 	 * Constructor to call in subClasses.
 	 * Current version does nothing.
@@ -58,8 +75,16 @@ public abstract class AbstractList<E> implements List<E>, Iterable<E>,
 		return a;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * When both are large the elements of the list are put in a
+	 * HashSet first, so the time is linear instead of quadratic.
+	 */
 	@Override
 	public boolean containsAll(Collection<?> c) {
+		if (c.size() > SCAN_LIMIT && size() > SCAN_LIMIT) {
+			return new HashSet<Object>(this).containsAll(c);
+		}
 		for (Object elem: c) {
 			if (!contains(elem)) {
 				return false;
@@ -92,23 +117,103 @@ public abstract class AbstractList<E> implements List<E>, Iterable<E>,
 		return oldSize != size();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * All instances of the elements in c are removed in a single pass
+	 * over the list.
+	 */
 	@Override
 	public boolean removeAll(Collection<?> c) {
-		int oldSize = size();
-		for (Object el: c) {
-			removeAll(el);
-		}
-		return oldSize != size();
+		final Collection<?> lookup = lookup(c, size());
+		return removeIf(new Predicate<E>() {
+			@Override
+			public boolean test(E e) {
+				return lookup.contains(e);
+			}
+		});
 	}
 	
 	/**
 	 * Removes all instances of Object o from the list.
 	 * @param o The Object to be removed.
 	 */
-	public void removeAll(Object o) {
-		while (this.contains(o)) {
-			this.remove(o);
+	public void removeAll(final Object o) {
+		removeIf(new Predicate<E>() {
+			@Override
+			public boolean test(E e) {
+				return o == null ? e == null : o.equals(e);
+			}
+		});
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * The list is compacted in a single pass. The elements that are kept
+	 * are moved to the front with one ListIterator while another one
+	 * reads ahead, and the left over elements are removed from the end.
+	 * It takes linear time for every list with a constant time
+	 * ListIterator and constant time removal at the end.
+	 * @since 18-10-2026
+	 */
+	@Override
+	public boolean removeIf(Predicate<? super E> filter) {
+		if (filter == null) {
+			throw new NullPointerException();
+		}
+		int size = size();
+		ListIterator<E> read = listIterator();
+		ListIterator<E> write = listIterator();
+		int kept = 0;
+		while (read.hasNext()) {
+			E e = read.next();
+			if (!filter.test(e)) {
+				write.next();
+				if (kept != read.previousIndex()) {
+					write.set(e);
+				}
+				kept++;
+			}
+		}
+		if (kept == size) {
+			return false;
+		}
+		removeRange(kept, size);
+		return true;
+	}
+	
+	/**
+	 * Removes the elements from fromIndex up to toIndex. The default
+	 * version removes them one by one from the end of the range with a
+	 * ListIterator. Subclasses that can remove a range at once should
+	 * override it.
+	 * @param fromIndex The index of the first element to be removed.
+	 * @param toIndex The index after the last element to be removed.
+	 * @since 18-10-2026
+	 */
+	protected void removeRange(int fromIndex, int toIndex) {
+		ListIterator<E> it = listIterator(toIndex);
+		for (int left = toIndex - fromIndex; left > 0; left--) {
+			it.previous();
+			it.remove();
+		}
+	}
+	
+	/**
+	 * Gives a collection that tells whether an Object is in c and is
+	 * fast enough to be asked the given amount of times. Sets and small
+	 * collections are used as they are, other collections are copied to
+	 * a HashSet.
+	 * @param c The collection to look in.
+	 * @param probes The amount of times it will be asked.
+	 * @return A collection with the same elements as c.
+	 * @since 18-10-2026
+	 */
+	protected static Collection<?> lookup(Collection<?> c, int probes) {
+		if (c instanceof Set || c.size() <= SCAN_LIMIT
+				|| probes <= SCAN_LIMIT) {
+			return c;
 		}
+		return new HashSet<Object>(c);
 	}
 
 	@Override
@@ -131,20 +236,19 @@ public abstract class AbstractList<E> implements List<E>, Iterable<E>,
 		return -1;
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * The other elements are removed in a single pass over the list.
+	 */
 	@Override
 	public boolean retainAll(Collection<?> c) {
-		int oldSize = size();
-		List<E> removed = new ArrayList<E>();
-		for (int i = 0; i < size(); i++) {
-			E elem = get(i);
-			if (!c.contains(elem)) {
-				removed.add(elem);
+		final Collection<?> lookup = lookup(c, size());
+		return removeIf(new Predicate<E>() {
+			@Override
+			public boolean test(E e) {
+				return !lookup.contains(e);
 			}
-		}
-		for (E elem: removed) {
-			this.removeAll(elem);
-		}
-		return oldSize != size();
+		});
 	}
 	
 	@Override
@@ -196,12 +300,22 @@ public abstract class AbstractList<E> implements List<E>, Iterable<E>,
 	
 	@Override
 	public ListIterator<E> listIterator() {
-		 throw new UnsupportedOperationException();
+		return listIterator(0);
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * The default version walks over the list by index, so every step
+	 * costs a {@link #get(int)}. Subclasses without constant time
+	 * indexed access should override it.
+	 * @since 18-10-2026
+	 */
 	@Override
 	public ListIterator<E> listIterator(int index) {
-		throw new UnsupportedOperationException();
+		if (index < 0 || index > size()) {
+			throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+		}
+		return new AbstractListIterator(index);
 	}
 
 	@Override
@@ -211,15 +325,37 @@ public abstract class AbstractList<E> implements List<E>, Iterable<E>,
 		return this.size() != size;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * The sublist is a view on this list, so no elements are copied.
+	 * Changes to the sublist are made to this list. When this list is
+	 * structurally changed in another way, the sublist throws a
+	 * ConcurrentModificationException.
+	 */
 	@Override
 	public AbstractList<E> subList(int fromIndex, int toIndex) {
-		AbstractList<E> sub = this.newList();
-		int index = fromIndex;
-		while (index < toIndex) {
-			sub.add(this.get(index));
-			index++;
+		checkRange(fromIndex, toIndex, size());
+		return new SubList(fromIndex, toIndex);
+	}
+	
+	/**
+	 * Checks the range of a sublist.
+	 * @param fromIndex The first index of the range.
+	 * @param toIndex The index after the range.
+	 * @param size The size of the list.
+	 * @since 18-10-2026
+	 */
+	protected static void checkRange(int fromIndex, int toIndex, int size) {
+		if (fromIndex < 0) {
+			throw new IndexOutOfBoundsException("fromIndex = " + fromIndex);
+		}
+		if (toIndex > size) {
+			throw new IndexOutOfBoundsException("toIndex = " + toIndex);
+		}
+		if (fromIndex > toIndex) {
+			throw new IllegalArgumentException("fromIndex(" + fromIndex
+					+ ") > toIndex(" + toIndex + ")");
 		}
-		return sub;
 	}
 	
 	/**
@@ -240,9 +376,13 @@ public abstract class AbstractList<E> implements List<E>, Iterable<E>,
 	 * @return The intersection of the two lists.
 	 */
 	public Set<E> intersect(List<E> other) {
+		Collection<?> lookup = lookup(other, size());
 		Set<E> intersect = new HashSet<E>();
-		intersect.addAll(this);
-		intersect.retainAll(other);
+		for (E el: this) {
+			if (lookup.contains(el)) {
+				intersect.add(el);
+			}
+		}
 		return intersect;
 	}
 	
@@ -253,9 +393,10 @@ public abstract class AbstractList<E> implements List<E>, Iterable<E>,
 	 * @return A Set of elements that appear in only one list.
 	 */
 	public Set<E> difference(List<E> other) {
+		Collection<?> lookup = lookup(other, size());
 		Set<E> diff = new HashSet<E>();
 		for (E el: this) {
-			if (!other.contains(el)) {
+			if (!lookup.contains(el)) {
 				diff.add(el);
 			}
 		}
@@ -269,8 +410,19 @@ public abstract class AbstractList<E> implements List<E>, Iterable<E>,
 	 * @return A Set of elements that appear in only one list.
 	 */
 	public Set<E> symmetricDifference(AbstractList<E> other) {
-		Set<E> diff = this.difference(other);
-		diff.addAll(other.difference(this));
+		Set<E> mine = new HashSet<E>(this);
+		Set<E> theirs = new HashSet<E>(other);
+		Set<E> diff = new HashSet<E>();
+		for (E el: mine) {
+			if (!theirs.contains(el)) {
+				diff.add(el);
+			}
+		}
+		for (E el: theirs) {
+			if (!mine.contains(el)) {
+				diff.add(el);
+			}
+		}
 		return diff;
 	}
 	
@@ -330,6 +482,325 @@ public abstract class AbstractList<E> implements List<E>, Iterable<E>,
 	 */
 	public abstract AbstractList<E> newList();
 	
+	/**
+	 * The default sublist of the AbstractList. It is a view on a range
+	 * of the list and passes every call on to the list with the offset
+	 * of the range added to the index.
+	 * 
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 * 
+	 * @see AbstractList#subList(int, int)
+	 * 
+	 * @author stefanboodt
+	 *
+	 */
+	private class SubList extends AbstractList<E> {
+		
+		/**
+		 * The index in the list of the first element of the view.
+		 */
+		private final int offset;
+		
+		/**
+		 * The amount of elements in the view.
+		 */
+		private int size;
+		
+		/**
+		 * The modCount the view expects the list to have.
+		 */
+		private int expectedModCount;
+		
+		/**
+		 * Creates a view on a range of the list.
+		 * @param fromIndex The first index of the range.
+		 * @param toIndex The index after the range.
+		 */
+		public SubList(int fromIndex, int toIndex) {
+			offset = fromIndex;
+			size = toIndex - fromIndex;
+			expectedModCount = AbstractList.this.modCount;
+		}
+
+		@Override
+		public int size() {
+			checkForComodification();
+			return size;
+		}
+
+		@Override
+		public E get(int index) {
+			checkIndex(index);
+			return AbstractList.this.get(offset + index);
+		}
+
+		@Override
+		public E set(int index, E element) {
+			checkIndex(index);
+			return AbstractList.this.set(offset + index, element);
+		}
+
+		@Override
+		public void add(int index, E element) {
+			if (index < 0 || index > size()) {
+				throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+			}
+			int position = offset + index;
+			if (position == AbstractList.this.size()) {
+				AbstractList.this.add(element);
+			}
+			else {
+				AbstractList.this.add(position, element);
+			}
+			changed(1);
+		}
+
+		@Override
+		public E remove(int index) {
+			checkIndex(index);
+			E element = AbstractList.this.remove(offset + index);
+			changed(-1);
+			return element;
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			int index = indexOf(o);
+			if (index != -1) {
+				remove(index);
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void clear() {
+			removeRange(0, size());
+		}
+		
+		@Override
+		protected void removeRange(int fromIndex, int toIndex) {
+			checkForComodification();
+			AbstractList.this.removeRange(offset + fromIndex,
+					offset + toIndex);
+			changed(fromIndex - toIndex);
+		}
+
+		@Override
+		public AbstractList<E> newList() {
+			return AbstractList.this.newList();
+		}
+
+		@Override
+		public ResetableIterator<E> iterator() {
+			return new SubListIterator<E>(this);
+		}
+		
+		/**
+		 * Keeps the view in step with a change it made to the list.
+		 * @param delta The change of the size.
+		 */
+		private void changed(int delta) {
+			expectedModCount = AbstractList.this.modCount;
+			size += delta;
+			modCount++;
+		}
+		
+		/**
+		 * Checks that the list has not been structurally modified by
+		 * anything other than this view.
+		 */
+		private void checkForComodification() {
+			if (AbstractList.this.modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+	
+	/**
+	 * A ResetableIterator over a sublist that uses its ListIterator.
+	 * 
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 * 
+	 * @see ResetableIterator
+	 * 
+	 * @author stefanboodt
+	 *
+	 * @param <E> The type stored in the sublist.
+	 */
+	protected static class SubListIterator<E> implements
+			ResetableIterator<E> {
+		
+		/**
+		 * The sublist to walk over.
+		 */
+		private final List<E> list;
+		
+		/**
+		 * The ListIterator of the current round.
+		 */
+		private ListIterator<E> it;
+		
+		/**
+		 * Creates an iterator over the sublist.
+		 * @param list The sublist.
+		 */
+		public SubListIterator(List<E> list) {
+			this.list = list;
+			reset();
+		}
+		
+		@Override
+		public void reset() {
+			it = list.listIterator();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return it.hasNext();
+		}
+
+		@Override
+		public E next() {
+			return it.next();
+		}
+		
+		@Override
+		public void remove() {
+			it.remove();
+		}
+	}
+	
+	/**
+	 * The default ListIterator of the AbstractList. It walks over the
+	 * list with {@link #get(int)}, {@link #set(int, Object)},
+	 * {@link #add(int, Object)} and {@link #remove(int)}.
+	 * 
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 * 
+	 * @see ListIterator
+	 * @see AbstractList#listIterator(int)
+	 * 
+	 * @author stefanboodt
+	 *
+	 */
+	private class AbstractListIterator implements ListIterator<E> {
+		
+		/**
+		 * The index of the element returned by the next call to next.
+		 */
+		private int cursor;
+		
+		/**
+		 * The index of the last returned element, -1 if there is none
+		 * or if it has been removed.
+		 */
+		private int lastReturned = -1;
+		
+		/**
+		 * The modCount the iterator expects the list to have.
+		 */
+		private int expectedModCount = modCount;
+		
+		/**
+		 * Creates an iterator that starts before the given index.
+		 * @param index The index of the first element to return.
+		 */
+		public AbstractListIterator(int index) {
+			cursor = index;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return cursor < size();
+		}
+
+		@Override
+		public E next() {
+			checkForComodification();
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = cursor;
+			cursor++;
+			return get(lastReturned);
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return cursor > 0;
+		}
+
+		@Override
+		public E previous() {
+			checkForComodification();
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			cursor--;
+			lastReturned = cursor;
+			return get(lastReturned);
+		}
+
+		@Override
+		public int nextIndex() {
+			return cursor;
+		}
+
+		@Override
+		public int previousIndex() {
+			return cursor - 1;
+		}
+
+		@Override
+		public void remove() {
+			if (lastReturned < 0) {
+				throw new IllegalStateException();
+			}
+			checkForComodification();
+			AbstractList.this.remove(lastReturned);
+			cursor = lastReturned;
+			lastReturned = -1;
+			expectedModCount = modCount;
+		}
+
+		@Override
+		public void set(E e) {
+			if (lastReturned < 0) {
+				throw new IllegalStateException();
+			}
+			checkForComodification();
+			AbstractList.this.set(lastReturned, e);
+		}
+
+		@Override
+		public void add(E e) {
+			checkForComodification();
+			if (cursor == size()) {
+				AbstractList.this.add(e);
+			}
+			else {
+				AbstractList.this.add(cursor, e);
+			}
+			cursor++;
+			lastReturned = -1;
+			expectedModCount = modCount;
+		}
+		
+		/**
+		 * Checks that the list has not been structurally modified by
+		 * anything other than this iterator.
+		 */
+		private void checkForComodification() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * Is now also Resetable.
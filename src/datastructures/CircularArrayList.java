@@ -0,0 +1,619 @@
+package datastructures;
+
+import interfaces.ResetableIterator;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * The circular Array list is a list that keeps its elements in a ring
+ * buffer. The first element can be anywhere in the array and the list
+ * wraps around the end of the array, so adding and removing at both
+ * ends takes constant time and no element has to be moved. It is the
+ * preferred list for queues and other lists that rotate, because the
+ * elements are next to each other in memory and no node has to be
+ * created for them.
+ *
+ * <p>
+ * Like the {@link CircularLinkedList} the indices go around the circle,
+ * so an index past the end gives the elements at the start again.
+ * </p>
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see AbstractList
+ * @see CircularLinkedList
+ * @see List
+ * @see Collection
+ * @see Iterable
+ *
+ * @author stefanboodt
+ *
+ * @param<E> The type stored in this list.
+ */
+public class CircularArrayList<E> extends AbstractList<E> {
+
+	/**
+	 * The capacity of a list that has not been given one.
+	 */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * The ring buffer with the elements. Its length is always a power
+	 * of two, so an index can be wrapped with a mask.
+	 */
+	private Object[] elements;
+
+	/**
+	 * The index in the array of the first element.
+	 */
+	private int head;
+
+	/**
+	 * The amount of elements in the list.
+	 */
+	private int size;
+
+	/**
+	 * Creates a new CircularArrayList.
+	 */
+	public CircularArrayList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new CircularArrayList that can hold the given amount of
+	 * elements before it has to grow.
+	 * @param capacity The initial capacity.
+	 */
+	public CircularArrayList(int capacity) {
+		super();
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Illegal Capacity: "
+					+ capacity);
+		}
+		int length = 1;
+		while (length < capacity) {
+			length <<= 1;
+		}
+		elements = new Object[length];
+		head = 0;
+		size = 0;
+	}
+
+	/**
+	 * Creates a new CircularArrayList with the given Collection as
+	 * default values. It starts the List and adds all values in the
+	 * Collection.
+	 * @see Collection
+	 * @param startUp The default values.
+	 */
+	public CircularArrayList(Collection<E> startUp) {
+		this(startUp.size());
+		addAll(startUp);
+	}
+
+	/**
+	 * Creates a new CircularArrayList with the given elements as
+	 * default values.
+	 * @param startup The default values.
+	 */
+	@SafeVarargs
+	public CircularArrayList(E ... startup) {
+		this(startup.length);
+		for (E el: startup) {
+			add(el);
+		}
+	}
+
+	/**
+	 * Creates a new CircularArrayList with the given Iterable as
+	 * default values. It starts the List and adds all values in the
+	 * Iterable.
+	 * @see Iterable
+	 * @param startUp The default values.
+	 */
+	public CircularArrayList(Iterable<E> startUp) {
+		this();
+		for (E el: startUp) {
+			add(el);
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public ResetableIterator<E> iterator() {
+		return new CircularArrayListIterator();
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		int index = indexOf(o);
+		if (index != -1) {
+			this.remove(index);
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		for (int i = 0; i < size; i++) {
+			elements[slot(i)] = null;
+		}
+		head = 0;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public E get(int index) {
+		checkIndex(index);
+		return element(slot(index % size));
+	}
+
+	@Override
+	public E set(int index, E element) {
+		checkIndex(index);
+		int slot = slot(index % size);
+		E e = element(slot);
+		elements[slot] = element;
+		return e;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Adding at the size adds the element to the end of the list. The
+	 * elements on the shorter side of the index are moved.
+	 */
+	@Override
+	public void add(int index, E element) {
+		if (index == size) {
+			addLast(element);
+			return;
+		}
+		checkIndex(index);
+		index %= size;
+		if (index == 0) {
+			addFirst(element);
+			return;
+		}
+		ensureCapacity();
+		int mask = elements.length - 1;
+		if (index < size - index) {
+			head = (head - 1) & mask;
+			for (int i = 0; i < index; i++) {
+				elements[slot(i)] = elements[slot(i + 1)];
+			}
+		}
+		else {
+			for (int i = size; i > index; i--) {
+				elements[slot(i)] = elements[slot(i - 1)];
+			}
+		}
+		elements[slot(index)] = element;
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public boolean add(E element) {
+		addLast(element);
+		return true;
+	}
+
+	/**
+	 * Adds the element to the beginning of the list.
+	 * @param element The element to be added.
+	 */
+	public void addFirst(E element) {
+		ensureCapacity();
+		head = (head - 1) & (elements.length - 1);
+		elements[head] = element;
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Adds the element to the end of the list.
+	 * @param element The element to be added.
+	 * @see #add(Object)
+	 */
+	public void addLast(E element) {
+		ensureCapacity();
+		elements[slot(size)] = element;
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Removes the first element of the list.
+	 * @return the element at the start of the list.
+	 */
+	public E removeFirst() {
+		if (isEmpty()) {
+			throw new EmptyDataStructureException();
+		}
+		E el = element(head);
+		elements[head] = null;
+		head = slot(1);
+		size--;
+		modCount++;
+		return el;
+	}
+
+	/**
+	 * Removes the last element of the list.
+	 * @return the element at the end of the list.
+	 */
+	public E removeLast() {
+		if (isEmpty()) {
+			throw new EmptyDataStructureException();
+		}
+		int slot = slot(size - 1);
+		E el = element(slot);
+		elements[slot] = null;
+		size--;
+		modCount++;
+		return el;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The elements on the shorter side of the index are moved.
+	 */
+	@Override
+	public E remove(int index) {
+		if (isEmpty()) {
+			throw new EmptyDataStructureException();
+		}
+		checkIndex(index);
+		index %= size;
+		E element = element(slot(index));
+		if (index < size - 1 - index) {
+			for (int i = index; i > 0; i--) {
+				elements[slot(i)] = elements[slot(i - 1)];
+			}
+			elements[head] = null;
+			head = slot(1);
+		}
+		else {
+			for (int i = index; i < size - 1; i++) {
+				elements[slot(i)] = elements[slot(i + 1)];
+			}
+			elements[slot(size - 1)] = null;
+		}
+		size--;
+		modCount++;
+		return element;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The elements on the shorter side of the range are moved once.
+	 */
+	@Override
+	protected void removeRange(int fromIndex, int toIndex) {
+		int count = toIndex - fromIndex;
+		if (count <= 0) {
+			return;
+		}
+		if (fromIndex < size - toIndex) {
+			for (int i = fromIndex - 1; i >= 0; i--) {
+				elements[slot(i + count)] = elements[slot(i)];
+			}
+			for (int i = 0; i < count; i++) {
+				elements[slot(i)] = null;
+			}
+			head = slot(count);
+		}
+		else {
+			for (int i = toIndex; i < size; i++) {
+				elements[slot(i - count)] = elements[slot(i)];
+			}
+			for (int i = size - count; i < size; i++) {
+				elements[slot(i)] = null;
+			}
+		}
+		size -= count;
+		modCount++;
+	}
+
+	/**
+	 * Rotates the list so the element at the given index becomes the
+	 * first element. A negative distance rotates the other way, so
+	 * rotating by -1 makes the last element the first.
+	 * When the array is full only the start of the list moves, which
+	 * takes constant time. Otherwise the elements on the shorter side
+	 * of the index are moved to the other end of the list.
+	 * @param distance The index of the element that becomes the first.
+	 */
+	public void rotate(int distance) {
+		if (size == 0) {
+			return;
+		}
+		distance %= size;
+		if (distance < 0) {
+			distance += size;
+		}
+		if (distance == 0) {
+			return;
+		}
+		modCount++;
+		int mask = elements.length - 1;
+		if (size == elements.length) {
+			head = (head + distance) & mask;
+		}
+		else if (distance <= size - distance) {
+			for (; distance > 0; distance--) {
+				elements[slot(size)] = elements[head];
+				elements[head] = null;
+				head = (head + 1) & mask;
+			}
+		}
+		else {
+			for (distance = size - distance; distance > 0; distance--) {
+				head = (head - 1) & mask;
+				int last = slot(size);
+				elements[head] = elements[last];
+				elements[last] = null;
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The spliterator knows its size and splits in half, so parallel
+	 * streams over the list use every core. It covers the elements that
+	 * are in the list when it is created.
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return new CircularArrayListSpliterator(elements, head, 0, size,
+				modCount);
+	}
+
+	@Override
+	public AbstractList<E> newList() {
+		return new CircularArrayList<E>();
+	}
+
+	@Override
+	protected boolean isIndex(int index) {
+		return size > 0 && index >= 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The clone gets its own copy of the array.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public CircularArrayList<E> clone() throws CloneNotSupportedException {
+		CircularArrayList<E> clone = (CircularArrayList<E>) super.clone();
+		clone.elements = elements.clone();
+		return clone;
+	}
+
+	/**
+	 * Gives the index in the array of the element at the given index in
+	 * the list.
+	 * @param index The index in the list, from 0 up to the capacity.
+	 * @return The index in the array.
+	 */
+	private int slot(int index) {
+		return (head + index) & (elements.length - 1);
+	}
+
+	/**
+	 * Gets the element in the given slot of the array.
+	 * @param slot The index in the array.
+	 * @return The element in the slot.
+	 */
+	@SuppressWarnings("unchecked")
+	private E element(int slot) {
+		return (E) elements[slot];
+	}
+
+	/**
+	 * Makes sure there is room for one more element. When the array is
+	 * full it is doubled and the elements are copied to the start of the
+	 * new array.
+	 */
+	private void ensureCapacity() {
+		if (size < elements.length) {
+			return;
+		}
+		int length = elements.length;
+		if (length << 1 < 0) {
+			throw new OutOfMemoryError("The list is too large");
+		}
+		Object[] grown = new Object[length << 1];
+		int front = length - head;
+		System.arraycopy(elements, head, grown, 0, front);
+		System.arraycopy(elements, 0, grown, front, head);
+		elements = grown;
+		head = 0;
+	}
+
+	/**
+	 * The Spliterator of the CircularArrayList. It covers a range of
+	 * indices of the list and splits it in half.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see Spliterator
+	 * @see CircularArrayList#spliterator()
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	private class CircularArrayListSpliterator implements Spliterator<E> {
+
+		/**
+		 * The array of the list when the spliterator was created.
+		 */
+		private final Object[] array;
+
+		/**
+		 * The index in the array of the first element of the list.
+		 */
+		private final int first;
+
+		/**
+		 * The index in the list of the next element.
+		 */
+		private int index;
+
+		/**
+		 * The index in the list after the last element of the range.
+		 */
+		private final int fence;
+
+		/**
+		 * The modCount the spliterator expects the list to have.
+		 */
+		private final int expectedModCount;
+
+		/**
+		 * Creates a spliterator over a range of the list.
+		 * @param array The array of the list.
+		 * @param first The index in the array of the first element.
+		 * @param index The first index in the list of the range.
+		 * @param fence The index in the list after the range.
+		 * @param expectedModCount The modCount of the list.
+		 */
+		public CircularArrayListSpliterator(Object[] array, int first,
+				int index, int fence, int expectedModCount) {
+			this.array = array;
+			this.first = first;
+			this.index = index;
+			this.fence = fence;
+			this.expectedModCount = expectedModCount;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			if (action == null) {
+				throw new NullPointerException();
+			}
+			if (index >= fence) {
+				return false;
+			}
+			E element = (E) array[(first + index) & (array.length - 1)];
+			index++;
+			action.accept(element);
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			return true;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public void forEachRemaining(Consumer<? super E> action) {
+			if (action == null) {
+				throw new NullPointerException();
+			}
+			int mask = array.length - 1;
+			for (int i = index; i < fence; i++) {
+				action.accept((E) array[(first + i) & mask]);
+			}
+			index = fence;
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			int mid = (index + fence) >>> 1;
+			if (index >= mid) {
+				return null;
+			}
+			int start = index;
+			index = mid;
+			return new CircularArrayListSpliterator(array, first, start,
+					mid, expectedModCount);
+		}
+
+		@Override
+		public long estimateSize() {
+			return fence - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED
+					| Spliterator.SUBSIZED;
+		}
+	}
+
+	/**
+	 * The Iterator of the CircularArrayList.
+	 * It walks over all elements in the list, from the first to the
+	 * last.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see ResetableIterator
+	 * @see CircularArrayList
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	private class CircularArrayListIterator implements ResetableIterator<E> {
+
+		/**
+		 * The index of the element returned by the next call to next.
+		 */
+		private int cursor;
+
+		/**
+		 * The modCount the iterator expects the list to have.
+		 */
+		private int expectedModCount;
+
+		/**
+		 * Creates an Iterator that starts at the first element.
+		 */
+		public CircularArrayListIterator() {
+			reset();
+		}
+
+		/**
+		 * Resets the Iterator so it can start again.
+		 */
+		@Override
+		public void reset() {
+			cursor = 0;
+			expectedModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return cursor < size;
+		}
+
+		@Override
+		public E next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			E element = element(slot(cursor));
+			cursor++;
+			return element;
+		}
+	}
+}
@@ -2,14 +2,24 @@ package datastructures;
 
 import interfaces.ResetableIterator;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
- * The circular Linked list is a list that is singly linked and
+ * The circular Linked list is a list that is doubly linked and
  * circular. It is known to be the preffered list when implementing a
- * Stack.
+ * Stack. Because the nodes know their previous node, the ListIterator
+ * of the list moves, adds and removes in constant time in both
+ * directions.
+ * 
+ * <p>
+ * A look up by index remembers the node it found, so the next look up
+ * nearby is fast. The node and its index are remembered together in
+ * one {@link Finger}, so threads that only read the list can still
+ * share it.
+ * </p>
  * 
  * @since 16-8-2014
- * @version 20-8-2014
+ * @version 18-10-2026
  * 
  * @see AbstractList
  * @see List
@@ -34,6 +44,15 @@ public class CircularLinkedList<E> extends AbstractList<E> {
 	 */
 	private int size;
 	
+	/**
+	 * The node that was looked up last by index with its index, null if
+	 * there is none or if the list changed after the look up. Looking up
+	 * an index close to it starts from here instead of from the tail, so
+	 * walking over the list by index takes constant time per step.
+	 * @since 18-10-2026
+	 */
+	private Finger<E> finger;
+	
 	/**
 	 * Creates a new CircularLinkedList.
 	 */
@@ -94,6 +113,20 @@ public class CircularLinkedList<E> extends AbstractList<E> {
 	public ResetableIterator<E> iterator() {
 		return new CircularLinkedListIterator<E>(tail);
 	}
+	
+	/**
+	 * {@inheritDoc}
+	 * The iterator walks over the nodes, so every step and every change
+	 * at the cursor takes constant time.
+	 * @since 18-10-2026
+	 */
+	@Override
+	public ListIterator<E> listIterator(int index) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+		}
+		return new CircularListIterator(index);
+	}
 
 	@Override
 	public boolean remove(Object o) {
@@ -111,15 +144,18 @@ public class CircularLinkedList<E> extends AbstractList<E> {
         // - helps a generational GC if the discarded nodes inhabit
         //   more than one generation
         // - is sure to free memory even if there is a reachable Iterator
-		Node<E> finger = tail;
+		Node<E> node = tail;
 		while (size > 0) {
-			Node<E> next = finger.getNext();
-			finger.setElement(null);
-			finger.setNext(null);
-			finger = next;
+			Node<E> next = node.getNext();
+			node.setElement(null);
+			node.setNext(null);
+			node.setPrevious(null);
+			node = next;
 			size--;
 		}
 		tail = null;
+		finger = null;
+		modCount++;
 		if (size != 0) {
 			throw new RuntimeException("The size is not correct");
 		}
@@ -145,9 +181,7 @@ public class CircularLinkedList<E> extends AbstractList<E> {
 			addFirst(element);
 		}
 		else {
-			Node<E> prev = node(index - 1);
-			prev.setNext(new Node<E>(element, prev.getNext()));
-			size++;
+			linkBefore(element, node(index - 1).getNext());
 		}
 	}
 	
@@ -159,13 +193,14 @@ public class CircularLinkedList<E> extends AbstractList<E> {
 		if (isEmpty()) {
 			tail = new Node<E>(element, null);
 			tail.setNext(tail);
+			tail.setPrevious(tail);
+			size++;
+			finger = null;
+			modCount++;
 		}
 		else {
-			Node<E> node = new Node<E>(element, tail.getNext());
-			tail.setNext(node);
-			tail = node;
+			tail = linkBefore(element, tail.getNext());
 		}
-		size++;
 	}
 	
 	@Override
@@ -185,9 +220,7 @@ public class CircularLinkedList<E> extends AbstractList<E> {
 			addLast(element);
 		}
 		else {
-			Node<E> next = tail.getNext();
-			tail.setNext(new Node<E>(element, next));
-			size++;
+			linkBefore(element, tail.getNext());
 		}
 	}
 	
@@ -199,16 +232,7 @@ public class CircularLinkedList<E> extends AbstractList<E> {
 		if (isEmpty()) {
 			throw new EmptyDataStructureException();
 		}
-		final Node<E> first = tail.getNext();
-		final E el = first.getElement();
-		if (size == 1) {
-			tail = null;
-		}
-		else {
-			tail.setNext(first.getNext());
-		}
-		size--;
-		return el;
+		return unlink(tail.getNext());
 	}
 	
 	/**
@@ -219,14 +243,7 @@ public class CircularLinkedList<E> extends AbstractList<E> {
 		if (isEmpty()) {
 			throw new EmptyDataStructureException();
 		}
-		if (size() == 1) {
-			return removeFirst();
-		}
-		node(size).setNext(tail.getNext());
-		E el = tail.getElement();
-		tail = tail.getNext();
-		size--;
-		return el;
+		return unlink(tail);
 	}
 
 	@Override
@@ -235,18 +252,7 @@ public class CircularLinkedList<E> extends AbstractList<E> {
 			throw new EmptyDataStructureException();
 		}
 		checkIndex(index);
-		if (index == 0) {
-			return removeFirst();
-		}
-		else if (index > 0) {
-			Node<E> prev = node(index - 1);
-			Node<E> next = node(index + 1);
-			E element = node(index).getElement();
-			prev.setNext(next);
-			size--;
-			return element;
-		}
-		return null;
+		return unlink(node(index));
 	}
 	
 	@Override
@@ -260,17 +266,148 @@ public class CircularLinkedList<E> extends AbstractList<E> {
 	}
 	
 	/**
-	 * Returns the node at the given index.
+	 * {@inheritDoc}
+	 * The clone gets its own nodes.
+	 * @since 18-10-2026
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public CircularLinkedList<E> clone() throws CloneNotSupportedException {
+		CircularLinkedList<E> clone = (CircularLinkedList<E>) super.clone();
+		clone.tail = null;
+		clone.size = 0;
+		clone.finger = null;
+		for (E el: this) {
+			clone.addLast(el);
+		}
+		return clone;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * The spliterator knows its size and splits in half without copying
+	 * the elements, so parallel streams over the list use every core.
+	 * It covers the elements that are in the list when it is created.
+	 * @since 18-10-2026
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return new CircularLinkedListSpliterator(
+				tail == null ? null : tail.getNext(), size);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * The sublist remembers the node it starts at and the node it
+	 * looked up last, so it never walks from the tail of this list
+	 * after it has been created.
+	 * @since 18-10-2026
+	 */
+	@Override
+	public AbstractList<E> subList(int fromIndex, int toIndex) {
+		checkRange(fromIndex, toIndex, size);
+		return new CircularSubList(fromIndex, toIndex - fromIndex,
+				fromIndex < size ? node(fromIndex) : null);
+	}
+	
+	/**
+	 * Inserts a new node with the given element in front of the given
+	 * node. The tail is not changed, so inserting in front of the first
+	 * node adds the element to the start of the list.
+	 * @param element The element to be added.
+	 * @param succ The node that will follow the new node.
+	 * @return The new node.
+	 * @since 18-10-2026
+	 */
+	private Node<E> linkBefore(E element, Node<E> succ) {
+		Node<E> pred = succ.getPrevious();
+		Node<E> node = new Node<E>(pred, element, succ);
+		pred.setNext(node);
+		succ.setPrevious(node);
+		size++;
+		finger = null;
+		modCount++;
+		return node;
+	}
+	
+	/**
+	 * Removes the given node from the list.
+	 * @param node The node to be removed.
+	 * @return The element of the removed node.
+	 * @since 18-10-2026
+	 */
+	private E unlink(Node<E> node) {
+		E element = node.getElement();
+		if (size == 1) {
+			tail = null;
+		}
+		else {
+			Node<E> pred = node.getPrevious();
+			Node<E> succ = node.getNext();
+			pred.setNext(succ);
+			succ.setPrevious(pred);
+			if (node == tail) {
+				tail = pred;
+			}
+		}
+		node.setElement(null);
+		node.setNext(null);
+		node.setPrevious(null);
+		size--;
+		finger = null;
+		modCount++;
+		return element;
+	}
+	
+	/**
+	 * Returns the node at the given index. Indices past the end go
+	 * around the circle again. The walk starts at the tail or at the
+	 * node looked up last, whichever is closer, and goes the shortest
+	 * way around the circle.
 	 * @param index The index of the requested node.
 	 * @return The node at the given index.
 	 */
 	protected Node<E> node(int index) {
 		checkIndex(index);
-		Node<E> finger = tail;
-		for (int left = index; left >= 0; left--) {
-			finger = finger.getNext();
+		index %= size;
+		Node<E> node = tail;
+		int steps = index + 1 - size;
+		Finger<E> finger = this.finger;
+		if (finger != null
+				&& distance(index - finger.index) < distance(steps)) {
+			node = finger.node;
+			steps = index - finger.index;
 		}
-		return finger;
+		if (steps < 0) {
+			steps += size;
+		}
+		if (steps <= size - steps) {
+			for (; steps > 0; steps--) {
+				node = node.getNext();
+			}
+		}
+		else {
+			for (steps = size - steps; steps > 0; steps--) {
+				node = node.getPrevious();
+			}
+		}
+		this.finger = new Finger<E>(node, index);
+		return node;
+	}
+	
+	/**
+	 * Gives the amount of links between two nodes that are the given
+	 * amount of indices apart, going the shortest way around.
+	 * @param offset The difference between the indices, more than
+	 * minus the size and less than the size.
+	 * @return The amount of links between the nodes.
+	 * @since 18-10-2026
+	 */
+	private int distance(int offset) {
+		if (offset < 0) {
+			offset += size;
+		}
+		return Math.min(offset, size - offset);
 	}
 	
 	/**
@@ -339,11 +476,524 @@ public class CircularLinkedList<E> extends AbstractList<E> {
 		
 	}
 	
+	/**
+	 * The ListIterator of the CircularLinkedList. The cursor is kept in
+	 * front of a node, so moving in either direction follows one link.
+	 * At the end of the list the cursor is in front of the first node
+	 * again, which is the node after the tail.
+	 * 
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 * 
+	 * @see ListIterator
+	 * @see CircularLinkedList#listIterator(int)
+	 * 
+	 * @author stefanboodt
+	 *
+	 */
+	private class CircularListIterator implements ListIterator<E> {
+		
+		/**
+		 * The node in front of the cursor, null if the list is empty.
+		 */
+		private Node<E> next;
+		
+		/**
+		 * The index of the node in front of the cursor.
+		 */
+		private int nextIndex;
+		
+		/**
+		 * The node returned last, null if there is none or if it has
+		 * been removed.
+		 */
+		private Node<E> lastReturned;
+		
+		/**
+		 * The modCount the iterator expects the list to have.
+		 */
+		private int expectedModCount = modCount;
+		
+		/**
+		 * Creates an iterator that starts before the given index.
+		 * @param index The index of the first element to return.
+		 */
+		public CircularListIterator(int index) {
+			if (tail != null) {
+				next = index == size ? tail.getNext() : node(index);
+			}
+			nextIndex = index;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex < size;
+		}
+
+		@Override
+		public E next() {
+			checkForComodification();
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = next;
+			next = next.getNext();
+			nextIndex++;
+			return lastReturned.getElement();
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return nextIndex > 0;
+		}
+
+		@Override
+		public E previous() {
+			checkForComodification();
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			next = next.getPrevious();
+			lastReturned = next;
+			nextIndex--;
+			return lastReturned.getElement();
+		}
+
+		@Override
+		public int nextIndex() {
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			return nextIndex - 1;
+		}
+
+		@Override
+		public void remove() {
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			checkForComodification();
+			Node<E> lastNext = lastReturned.getNext();
+			if (next == lastReturned) {
+				next = lastNext;
+			}
+			else {
+				nextIndex--;
+			}
+			unlink(lastReturned);
+			if (tail == null) {
+				next = null;
+			}
+			lastReturned = null;
+			expectedModCount = modCount;
+		}
+
+		@Override
+		public void set(E e) {
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			checkForComodification();
+			lastReturned.setElement(e);
+		}
+
+		@Override
+		public void add(E e) {
+			checkForComodification();
+			if (next == null) {
+				addLast(e);
+				next = tail;
+			}
+			else {
+				Node<E> node = linkBefore(e, next);
+				if (nextIndex == size - 1) {
+					tail = node;
+				}
+			}
+			nextIndex++;
+			lastReturned = null;
+			expectedModCount = modCount;
+		}
+		
+		/**
+		 * Checks that the list has not been structurally modified by
+		 * anything other than this iterator.
+		 */
+		private void checkForComodification() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+	
+	/**
+	 * The Spliterator of the CircularLinkedList. It walks over a range of
+	 * nodes that starts at a node and has a known length. Splitting walks
+	 * to the middle of the range and gives away the first half, so the
+	 * elements are never copied.
+	 * 
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 * 
+	 * @see Spliterator
+	 * @see CircularLinkedList#spliterator()
+	 * 
+	 * @author stefanboodt
+	 *
+	 */
+	private class CircularLinkedListSpliterator implements Spliterator<E> {
+		
+		/**
+		 * The next node to be visited.
+		 */
+		private Node<E> current;
+		
+		/**
+		 * The amount of nodes left in the range.
+		 */
+		private int remaining;
+		
+		/**
+		 * The modCount the spliterator expects the list to have.
+		 */
+		private final int expectedModCount = modCount;
+		
+		/**
+		 * Creates a spliterator over a range of nodes.
+		 * @param first The first node of the range.
+		 * @param length The amount of nodes in the range.
+		 */
+		public CircularLinkedListSpliterator(Node<E> first, int length) {
+			current = first;
+			remaining = length;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			if (action == null) {
+				throw new NullPointerException();
+			}
+			if (remaining <= 0) {
+				return false;
+			}
+			checkForComodification();
+			E element = current.getElement();
+			current = current.getNext();
+			remaining--;
+			action.accept(element);
+			return true;
+		}
+		
+		@Override
+		public void forEachRemaining(Consumer<? super E> action) {
+			if (action == null) {
+				throw new NullPointerException();
+			}
+			Node<E> node = current;
+			for (int left = remaining; left > 0; left--) {
+				action.accept(node.getElement());
+				node = node.getNext();
+			}
+			current = node;
+			remaining = 0;
+			checkForComodification();
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			int half = remaining >>> 1;
+			if (half == 0) {
+				return null;
+			}
+			checkForComodification();
+			CircularLinkedListSpliterator prefix =
+					new CircularLinkedListSpliterator(current, half);
+			for (int left = half; left > 0; left--) {
+				current = current.getNext();
+			}
+			remaining -= half;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return remaining;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED
+					| Spliterator.SUBSIZED;
+		}
+		
+		/**
+		 * Checks that the list has not been structurally modified since
+		 * the spliterator was created.
+		 */
+		private void checkForComodification() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+	
+	/**
+	 * The sublist of the CircularLinkedList. It is a view on a range of
+	 * nodes that is found from the first node of the range, so the
+	 * elements are never copied and the list is not walked from its
+	 * tail. Adding and removing through the view changes the list.
+	 * 
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 * 
+	 * @see CircularLinkedList#subList(int, int)
+	 * 
+	 * @author stefanboodt
+	 *
+	 */
+	private class CircularSubList extends AbstractList<E> {
+		
+		/**
+		 * The index in the list of the first element of the view.
+		 */
+		private final int offset;
+		
+		/**
+		 * The amount of elements in the view.
+		 */
+		private int size;
+		
+		/**
+		 * The node of the list at the offset. When the view is empty it
+		 * is the node that follows the view. It is not used when the
+		 * offset is at the end of the list.
+		 */
+		private Node<E> start;
+		
+		/**
+		 * The node of the view that was looked up last with its index in
+		 * the view, or null.
+		 */
+		private Finger<E> finger;
+		
+		/**
+		 * The modCount the view expects the list to have.
+		 */
+		private int expectedModCount;
+		
+		/**
+		 * Creates a view on a range of the list.
+		 * @param offset The index in the list of the first element.
+		 * @param size The amount of elements in the view.
+		 * @param start The node of the list at the offset.
+		 */
+		public CircularSubList(int offset, int size, Node<E> start) {
+			this.offset = offset;
+			this.size = size;
+			this.start = start;
+			expectedModCount = CircularLinkedList.this.modCount;
+		}
+
+		@Override
+		public int size() {
+			checkForComodification();
+			return size;
+		}
+
+		@Override
+		public E get(int index) {
+			return node(index).getElement();
+		}
+
+		@Override
+		public E set(int index, E element) {
+			Node<E> node = node(index);
+			E e = node.getElement();
+			node.setElement(element);
+			return e;
+		}
+
+		@Override
+		public void add(int index, E element) {
+			if (index < 0 || index > size()) {
+				throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+			}
+			Node<E> node;
+			if (offset + index == CircularLinkedList.this.size) {
+				addLast(element);
+				node = tail;
+			}
+			else if (index < size) {
+				node = linkBefore(element, node(index));
+			}
+			else if (size == 0) {
+				node = linkBefore(element, start);
+			}
+			else {
+				node = linkBefore(element, node(size - 1).getNext());
+			}
+			if (index == 0) {
+				start = node;
+			}
+			if (finger != null && finger.index >= index) {
+				finger = new Finger<E>(finger.node, finger.index + 1);
+			}
+			changed(1);
+		}
+
+		@Override
+		public E remove(int index) {
+			Node<E> node = node(index);
+			Node<E> next = node.getNext();
+			if (index == 0) {
+				start = next;
+			}
+			if (finger != null && finger.node == node) {
+				finger = index > 0
+						? new Finger<E>(node.getPrevious(), index - 1) : null;
+			}
+			else if (finger != null && finger.index > index) {
+				finger = new Finger<E>(finger.node, finger.index - 1);
+			}
+			E element = unlink(node);
+			changed(-1);
+			return element;
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			int index = indexOf(o);
+			if (index != -1) {
+				remove(index);
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void clear() {
+			removeRange(0, size());
+		}
+		
+		@Override
+		protected void removeRange(int fromIndex, int toIndex) {
+			checkForComodification();
+			if (fromIndex >= toIndex) {
+				return;
+			}
+			Node<E> node = node(fromIndex);
+			for (int left = toIndex - fromIndex; left > 0; left--) {
+				Node<E> next = node.getNext();
+				unlink(node);
+				node = next;
+			}
+			if (fromIndex == 0) {
+				start = node;
+			}
+			finger = null;
+			changed(fromIndex - toIndex);
+		}
+		
+		@Override
+		public AbstractList<E> newList() {
+			return CircularLinkedList.this.newList();
+		}
+
+		@Override
+		public ResetableIterator<E> iterator() {
+			return new SubListIterator<E>(this);
+		}
+		
+		/**
+		 * Returns the node at the given index of the view. The walk
+		 * starts at the first node or at the node looked up last,
+		 * whichever is closer.
+		 * @param index The index in the view.
+		 * @return The node at the index.
+		 */
+		private Node<E> node(int index) {
+			checkIndex(index);
+			Node<E> node = start;
+			int steps = index;
+			Finger<E> finger = this.finger;
+			if (finger != null
+					&& Math.abs(index - finger.index) < index) {
+				node = finger.node;
+				steps = index - finger.index;
+			}
+			for (; steps > 0; steps--) {
+				node = node.getNext();
+			}
+			for (; steps < 0; steps++) {
+				node = node.getPrevious();
+			}
+			this.finger = new Finger<E>(node, index);
+			return node;
+		}
+		
+		/**
+		 * Keeps the view in step with a change it made to the list.
+		 * @param delta The change of the size.
+		 */
+		private void changed(int delta) {
+			expectedModCount = CircularLinkedList.this.modCount;
+			size += delta;
+			modCount++;
+		}
+		
+		/**
+		 * Checks that the list has not been structurally modified by
+		 * anything other than this view.
+		 */
+		private void checkForComodification() {
+			if (CircularLinkedList.this.modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+	
+	/**
+	 * A node together with its index. A look up replaces the finger as
+	 * a whole with one write, and the fields are final, so a thread that
+	 * reads the finger never sees a node with the index of another node.
+	 * 
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 * 
+	 * @author stefanboodt
+	 *
+	 * @param <E> The type stored in the node.
+	 */
+	private static final class Finger<E> {
+		
+		/**
+		 * The node that was looked up.
+		 */
+		private final Node<E> node;
+		
+		/**
+		 * The index of the node.
+		 */
+		private final int index;
+		
+		/**
+		 * Creates a finger on the node at the index.
+		 * @param node The node that was looked up.
+		 * @param index The index of the node.
+		 */
+		private Finger(Node<E> node, int index) {
+			this.node = node;
+			this.index = index;
+		}
+	}
+	
 	/**
 	 * The Storing unit in a LinkedList.
 	 * 
 	 * @since 16-8-2014
-	 * @version 16-8-2014
+	 * @version 18-10-2026
 	 * 
 	 * @see LinkedList
 	 * @see CircularLinkedList
@@ -359,6 +1009,12 @@ public class CircularLinkedList<E> extends AbstractList<E> {
 		 */
 		private Node<E> next;
 		
+		/**
+		 * The previous node.
+		 * @since 18-10-2026
+		 */
+		private Node<E> previous;
+		
 		/**
 		 * The value in this Node.
 		 */
@@ -374,6 +1030,18 @@ public class CircularLinkedList<E> extends AbstractList<E> {
 			setNext(next);
 		}
 		
+		/**
+		 * Creates a Node with the given element, previous and next node.
+		 * @param previous The previous Node.
+		 * @param el The next Element.
+		 * @param next The next Node.
+		 * @since 18-10-2026
+		 */
+		public Node(Node<E> previous, E el, Node<E> next) {
+			this(el, next);
+			setPrevious(previous);
+		}
+		
 		/**
 		 * Sets the element to the given value.
 		 * @param elem The new value of this node.
@@ -406,6 +1074,24 @@ public class CircularLinkedList<E> extends AbstractList<E> {
 			return next;
 		}
 		
+		/**
+		 * Sets the previous node of this node.
+		 * @param previous The new previous node.
+		 * @since 18-10-2026
+		 */
+		public void setPrevious(Node<E> previous) {
+			this.previous = previous;
+		}
+		
+		/**
+		 * Gets the node in front of this one.
+		 * @return The previous node.
+		 * @since 18-10-2026
+		 */
+		public Node<E> getPrevious() {
+			return previous;
+		}
+		
 		@Override
 		public String toString() {
 			return "Node(element = " + element + ")"; 
@@ -0,0 +1,598 @@
+package datastructures;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>
+ * The concurrent circular queue is a bounded FIFO queue that can be
+ * used by many producers and consumers at the same time without locks.
+ * The elements are kept in a ring buffer. Every slot of the ring has a
+ * sequence number that tells whether it is free for the producer of a
+ * position or filled for the consumer of a position. A producer or
+ * consumer claims a position with a single compare and set on the tail
+ * or the head, so threads only wait on each other when they go for the
+ * same position.
+ * </p>
+ *
+ * <p>
+ * {@link #offerAll(Collection)} and {@link #drainTo(Collection, int)}
+ * claim as many positions as they can with one compare and set, which
+ * makes moving elements in batches a lot cheaper than one at a time.
+ * The head and the tail are padded so they are on different cache
+ * lines, so producers and consumers do not slow each other down.
+ * </p>
+ *
+ * <p>
+ * {@link #offer(Object)} and {@link #poll()} never wait. The blocking
+ * methods {@link #put(Object)} and {@link #take()} and the versions with
+ * a timeout wait with the {@link WaitStrategy} of the queue. Null
+ * elements are not allowed, because poll returns null when the queue is
+ * empty.
+ * </p>
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see BlockingQueue
+ * @see WaitStrategy
+ * @see CircularArrayList
+ *
+ * @author stefanboodt
+ *
+ * @param <E> The type stored in the queue.
+ */
+public class ConcurrentCircularQueue<E> extends AbstractQueue<E>
+		implements BlockingQueue<E> {
+
+	/**
+	 * The ways a blocked producer or consumer can wait for room or for
+	 * an element. Spinning has the lowest latency, but keeps a core
+	 * busy. Blocking frees the core, but has to be woken up.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	public enum WaitStrategy {
+
+		/**
+		 * Keeps checking the queue.
+		 */
+		BUSY_SPIN,
+
+		/**
+		 * Yields the core to other threads between checks.
+		 */
+		YIELD,
+
+		/**
+		 * Parks the thread for a moment between checks.
+		 */
+		PARK,
+
+		/**
+		 * Waits on a condition until it is signalled by the other side.
+		 * The queue only takes the lock when a thread is waiting.
+		 */
+		BLOCK
+	}
+
+	/**
+	 * The time a thread parks with the {@link WaitStrategy#PARK}
+	 * strategy, in nanoseconds.
+	 */
+	private static final long PARK_NANOS = 50000L;
+
+	/**
+	 * The ring buffer with the elements. Its length is a power of two.
+	 */
+	private final Object[] buffer;
+
+	/**
+	 * The sequence numbers of the slots. A slot is free for the producer
+	 * of position p when its number is p, and filled for the consumer of
+	 * position p when it is p + 1.
+	 */
+	private final AtomicLongArray sequences;
+
+	/**
+	 * Masks a position to the index of its slot.
+	 */
+	private final int mask;
+
+	/**
+	 * The next position to be taken by a consumer.
+	 */
+	private final PaddedCounter head = new PaddedCounter();
+
+	/**
+	 * The next position to be filled by a producer.
+	 */
+	private final PaddedCounter tail = new PaddedCounter();
+
+	/**
+	 * The way blocked threads wait.
+	 */
+	private final WaitStrategy waitStrategy;
+
+	/**
+	 * The lock the {@link WaitStrategy#BLOCK} strategy waits on.
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * Signalled when an element is added while a consumer waits.
+	 */
+	private final Condition notEmpty = lock.newCondition();
+
+	/**
+	 * Signalled when an element is taken while a producer waits.
+	 */
+	private final Condition notFull = lock.newCondition();
+
+	/**
+	 * The amount of consumers waiting on {@link #notEmpty}.
+	 */
+	private final AtomicInteger waitingConsumers = new AtomicInteger();
+
+	/**
+	 * The amount of producers waiting on {@link #notFull}.
+	 */
+	private final AtomicInteger waitingProducers = new AtomicInteger();
+
+	/**
+	 * Creates a queue that holds at least the given amount of elements
+	 * and blocks threads that have to wait.
+	 * @param capacity The minimum capacity, which is rounded up to a
+	 * power of two.
+	 */
+	public ConcurrentCircularQueue(int capacity) {
+		this(capacity, WaitStrategy.BLOCK);
+	}
+
+	/**
+	 * Creates a queue that holds at least the given amount of elements.
+	 * @param capacity The minimum capacity, which is rounded up to a
+	 * power of two.
+	 * @param waitStrategy The way threads wait in the blocking methods.
+	 */
+	public ConcurrentCircularQueue(int capacity, WaitStrategy waitStrategy) {
+		if (capacity < 1 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("Illegal Capacity: "
+					+ capacity);
+		}
+		if (waitStrategy == null) {
+			throw new NullPointerException();
+		}
+		int length = 1;
+		while (length < capacity) {
+			length <<= 1;
+		}
+		buffer = new Object[length];
+		sequences = new AtomicLongArray(length);
+		for (int i = 0; i < length; i++) {
+			sequences.lazySet(i, i);
+		}
+		mask = length - 1;
+		this.waitStrategy = waitStrategy;
+	}
+
+	/**
+	 * Gets the amount of elements the queue can hold.
+	 * @return The capacity of the queue.
+	 */
+	public int capacity() {
+		return buffer.length;
+	}
+
+	/**
+	 * Gets the way threads wait in the blocking methods.
+	 * @return The wait strategy.
+	 */
+	public WaitStrategy getWaitStrategy() {
+		return waitStrategy;
+	}
+
+	@Override
+	public boolean offer(E e) {
+		if (e == null) {
+			throw new NullPointerException();
+		}
+		long pos = tail.get();
+		while (true) {
+			int slot = (int) pos & mask;
+			long dif = sequences.get(slot) - pos;
+			if (dif == 0) {
+				if (tail.compareAndSet(pos, pos + 1)) {
+					buffer[slot] = e;
+					sequences.lazySet(slot, pos + 1);
+					signal(waitingConsumers, notEmpty);
+					return true;
+				}
+				pos = tail.get();
+			}
+			else if (dif < 0) {
+				return false;
+			}
+			else {
+				pos = tail.get();
+			}
+		}
+	}
+
+	@Override
+	public E poll() {
+		long pos = head.get();
+		while (true) {
+			int slot = (int) pos & mask;
+			long dif = sequences.get(slot) - (pos + 1);
+			if (dif == 0) {
+				if (head.compareAndSet(pos, pos + 1)) {
+					E e = release(slot, pos);
+					signal(waitingProducers, notFull);
+					return e;
+				}
+				pos = head.get();
+			}
+			else if (dif < 0) {
+				return null;
+			}
+			else {
+				pos = head.get();
+			}
+		}
+	}
+
+	@Override
+	public E peek() {
+		while (true) {
+			long pos = head.get();
+			int slot = (int) pos & mask;
+			long dif = sequences.get(slot) - (pos + 1);
+			if (dif < 0) {
+				return null;
+			}
+			if (dif == 0) {
+				@SuppressWarnings("unchecked")
+				E e = (E) buffer[slot];
+				if (head.get() == pos && e != null) {
+					return e;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds as many elements of the collection as there is room for, in
+	 * the order of its iterator. Free positions are claimed in batches,
+	 * so adding many elements takes few compare and sets. The elements
+	 * are copied before any position is claimed, so a claimed position
+	 * is always filled.
+	 * @param c The elements to be added.
+	 * @return The amount of elements that were added.
+	 * @throws NullPointerException If an element is null, in which case
+	 * nothing is added.
+	 */
+	public int offerAll(Collection<? extends E> c) {
+		if (c == this) {
+			throw new IllegalArgumentException();
+		}
+		Object[] elements = c.toArray();
+		for (Object e: elements) {
+			if (e == null) {
+				throw new NullPointerException();
+			}
+		}
+		int wanted = elements.length;
+		int added = 0;
+		while (added < wanted) {
+			long pos = tail.get();
+			int claimed = 0;
+			while (added + claimed < wanted && claimed <= mask
+					&& sequences.get((int) (pos + claimed) & mask)
+					== pos + claimed) {
+				claimed++;
+			}
+			if (claimed == 0) {
+				if (sequences.get((int) pos & mask) < pos) {
+					break;
+				}
+				continue;
+			}
+			if (!tail.compareAndSet(pos, pos + claimed)) {
+				continue;
+			}
+			for (int i = 0; i < claimed; i++) {
+				int slot = (int) (pos + i) & mask;
+				buffer[slot] = elements[added + i];
+				sequences.lazySet(slot, pos + i + 1);
+			}
+			added += claimed;
+			signal(waitingConsumers, notEmpty);
+		}
+		return added;
+	}
+
+	@Override
+	public int drainTo(Collection<? super E> c) {
+		return drainTo(c, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Filled positions are claimed in batches, so taking many elements
+	 * takes few compare and sets.
+	 */
+	@Override
+	public int drainTo(Collection<? super E> c, int maxElements) {
+		if (c == null) {
+			throw new NullPointerException();
+		}
+		if (c == this) {
+			throw new IllegalArgumentException();
+		}
+		int drained = 0;
+		while (drained < maxElements) {
+			long pos = head.get();
+			int claimed = 0;
+			while (drained + claimed < maxElements && claimed <= mask
+					&& sequences.get((int) (pos + claimed) & mask)
+					== pos + claimed + 1) {
+				claimed++;
+			}
+			if (claimed == 0) {
+				if (sequences.get((int) pos & mask) < pos + 1) {
+					break;
+				}
+				continue;
+			}
+			if (!head.compareAndSet(pos, pos + claimed)) {
+				continue;
+			}
+			int i = 0;
+			try {
+				while (i < claimed) {
+					E e = release((int) (pos + i) & mask, pos + i);
+					i++;
+					c.add(e);
+				}
+			}
+			finally {
+				// The claimed slots have to be freed even if the
+				// collection refuses an element, or the producers of
+				// the next round would wait for them forever.
+				for (; i < claimed; i++) {
+					release((int) (pos + i) & mask, pos + i);
+				}
+				// Producers waiting for the freed slots are woken up
+				// also when the collection throws.
+				signal(waitingProducers, notFull);
+			}
+			drained += claimed;
+		}
+		return drained;
+	}
+
+	@Override
+	public void put(E e) throws InterruptedException {
+		while (!offer(e)) {
+			await(false, 0L);
+		}
+	}
+
+	@Override
+	public boolean offer(E e, long timeout, TimeUnit unit)
+			throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		while (!offer(e)) {
+			if (!await(false, deadline)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public E take() throws InterruptedException {
+		E e;
+		while ((e = poll()) == null) {
+			await(true, 0L);
+		}
+		return e;
+	}
+
+	@Override
+	public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		E e;
+		while ((e = poll()) == null) {
+			if (!await(true, deadline)) {
+				return null;
+			}
+		}
+		return e;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Elements that are being added or taken at the same time may or may
+	 * not be counted.
+	 */
+	@Override
+	public int size() {
+		while (true) {
+			long before = head.get();
+			long t = tail.get();
+			if (head.get() == before) {
+				return (int) Math.max(0, Math.min(t - before, buffer.length));
+			}
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public int remainingCapacity() {
+		return buffer.length - size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The iterator walks over a copy of the elements that were in the
+	 * queue when it was created, so it never sees later changes and can
+	 * not remove elements.
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		List<E> snapshot = new ArrayList<E>();
+		long end = tail.get();
+		for (long pos = head.get(); pos < end; pos++) {
+			int slot = (int) pos & mask;
+			if (sequences.get(slot) != pos + 1) {
+				continue;
+			}
+			@SuppressWarnings("unchecked")
+			E e = (E) buffer[slot];
+			if (e != null && sequences.get(slot) == pos + 1) {
+				snapshot.add(e);
+			}
+		}
+		return Collections.unmodifiableList(snapshot).iterator();
+	}
+
+	/**
+	 * Takes the element out of a claimed slot and frees the slot for the
+	 * producer of the position one round later.
+	 * @param slot The slot of the position.
+	 * @param pos The position that was claimed.
+	 * @return The element in the slot.
+	 */
+	private E release(int slot, long pos) {
+		@SuppressWarnings("unchecked")
+		E e = (E) buffer[slot];
+		buffer[slot] = null;
+		sequences.lazySet(slot, pos + buffer.length);
+		return e;
+	}
+
+	/**
+	 * Wakes up the threads waiting on the condition, if there are any.
+	 * Only the {@link WaitStrategy#BLOCK} strategy waits on conditions.
+	 * @param waiting The amount of threads waiting on the condition.
+	 * @param condition The condition to signal.
+	 */
+	private void signal(AtomicInteger waiting, Condition condition) {
+		if (waitStrategy == WaitStrategy.BLOCK && waiting.get() > 0) {
+			lock.lock();
+			try {
+				condition.signalAll();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Waits once with the wait strategy of the queue.
+	 * @param forElement true if a consumer waits for an element, false
+	 * if a producer waits for room.
+	 * @param deadline The value of {@link System#nanoTime()} at which
+	 * waiting stops, 0 to wait without a deadline.
+	 * @return false if the deadline has passed.
+	 * @throws InterruptedException If the thread is interrupted.
+	 */
+	private boolean await(boolean forElement, long deadline)
+			throws InterruptedException {
+		long remaining = deadline == 0L ? Long.MAX_VALUE
+				: deadline - System.nanoTime();
+		if (remaining <= 0) {
+			return false;
+		}
+		if (Thread.interrupted()) {
+			throw new InterruptedException();
+		}
+		switch (waitStrategy) {
+		case BUSY_SPIN:
+			break;
+		case YIELD:
+			Thread.yield();
+			break;
+		case PARK:
+			LockSupport.parkNanos(this, Math.min(remaining, PARK_NANOS));
+			break;
+		default:
+			block(forElement, remaining);
+		}
+		return true;
+	}
+
+	/**
+	 * Waits on the condition of the {@link WaitStrategy#BLOCK} strategy.
+	 * The thread counts itself as waiting before it checks the queue
+	 * again, so a thread that changes the queue after the check sees it
+	 * and signals the condition.
+	 * @param forElement true if a consumer waits for an element, false
+	 * if a producer waits for room.
+	 * @param remaining The longest time to wait, in nanoseconds.
+	 * @throws InterruptedException If the thread is interrupted.
+	 */
+	private void block(boolean forElement, long remaining)
+			throws InterruptedException {
+		AtomicInteger waiting = forElement ? waitingConsumers
+				: waitingProducers;
+		Condition condition = forElement ? notEmpty : notFull;
+		lock.lockInterruptibly();
+		waiting.incrementAndGet();
+		try {
+			boolean ready = forElement ? size() > 0
+					: size() < buffer.length;
+			if (!ready) {
+				condition.awaitNanos(remaining);
+			}
+		}
+		finally {
+			waiting.decrementAndGet();
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * A counter that fills a cache line on its own, so the head and the
+	 * tail are not invalidated when the other one changes.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see AtomicLong
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	@SuppressWarnings("unused")
+	private static final class PaddedCounter extends AtomicLong {
+
+		/**
+		 * Serial number
+		 */
+		private static final long serialVersionUID = -2930413812345791062L;
+
+		/**
+		 * Padding up to the end of the cache line.
+		 */
+		private long p1, p2, p3, p4, p5, p6, p7;
+	}
+}
@@ -0,0 +1,663 @@
+package datastructures;
+
+import interfaces.ResetableLongIterator;
+
+import java.util.*;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The LongCircularList is a circular list of primitive longs. It keeps
+ * the values in a ring buffer of longs like the {@link CircularArrayList}
+ * does with Objects, so a value takes 8 bytes instead of a node
+ * and a boxed Long. The methods that take or give a long, such as
+ * {@link #getLong(int)}, {@link #addLast(long)} and the
+ * {@link ResetableLongIterator}, never box a value and do not create
+ * objects unless the array has to grow. The methods of the List
+ * interface still work, but box the values they give. The
+ * {@link #longStream()} walks over the values without boxing them and
+ * can be made parallel.
+ *
+ * <p>
+ * Like the {@link CircularLinkedList} the indices go around the circle,
+ * so an index past the end gives the values at the start again.
+ * </p>
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see AbstractList
+ * @see CircularArrayList
+ * @see ResetableLongIterator
+ *
+ * @author stefanboodt
+ *
+ */
+public class LongCircularList extends AbstractList<Long> {
+
+	/**
+	 * The capacity of a list that has not been given one.
+	 */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * The ring buffer with the values. Its length is always a power of
+	 * two, so an index can be wrapped with a mask.
+	 */
+	private long[] values;
+
+	/**
+	 * The index in the array of the first value.
+	 */
+	private int head;
+
+	/**
+	 * The amount of values in the list.
+	 */
+	private int size;
+
+	/**
+	 * Creates a new LongCircularList.
+	 */
+	public LongCircularList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new LongCircularList that can hold the given amount of
+	 * values before it has to grow.
+	 * @param capacity The initial capacity.
+	 */
+	public LongCircularList(int capacity) {
+		super();
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Illegal Capacity: "
+					+ capacity);
+		}
+		int length = 1;
+		while (length < capacity) {
+			length <<= 1;
+		}
+		values = new long[length];
+		head = 0;
+		size = 0;
+	}
+
+	/**
+	 * Creates a new LongCircularList with the given values.
+	 * @param startup The default values.
+	 */
+	public static LongCircularList of(long ... startup) {
+		LongCircularList list = new LongCircularList(startup.length);
+		for (long value: startup) {
+			list.addLast(value);
+		}
+		return list;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public ResetableLongIterator iterator() {
+		return new LongCircularListIterator();
+	}
+
+	/**
+	 * Gets the value at the given index without boxing it.
+	 * @param index The index of the value.
+	 * @return The value at the index.
+	 */
+	public long getLong(int index) {
+		checkIndex(index);
+		return values[slot(index % size)];
+	}
+
+	/**
+	 * Sets the value at the given index without boxing it.
+	 * @param index The index of the value.
+	 * @param value The new value.
+	 * @return The old value at the index.
+	 */
+	public long setLong(int index, long value) {
+		checkIndex(index);
+		int slot = slot(index % size);
+		long old = values[slot];
+		values[slot] = value;
+		return old;
+	}
+
+	@Override
+	public Long get(int index) {
+		return getLong(index);
+	}
+
+	@Override
+	public Long set(int index, Long element) {
+		return setLong(index, element);
+	}
+
+	/**
+	 * Adds the value to the beginning of the list.
+	 * @param value The value to be added.
+	 */
+	public void addFirst(long value) {
+		ensureCapacity();
+		head = (head - 1) & (values.length - 1);
+		values[head] = value;
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Adds the value to the end of the list.
+	 * @param value The value to be added.
+	 */
+	public void addLast(long value) {
+		ensureCapacity();
+		values[slot(size)] = value;
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public boolean add(Long element) {
+		addLast(element);
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Adding at the size adds the value to the end of the list. The
+	 * values on the shorter side of the index are moved.
+	 */
+	@Override
+	public void add(int index, Long element) {
+		long value = element;
+		if (index == size) {
+			addLast(value);
+			return;
+		}
+		checkIndex(index);
+		index %= size;
+		if (index == 0) {
+			addFirst(value);
+			return;
+		}
+		ensureCapacity();
+		if (index < size - index) {
+			head = (head - 1) & (values.length - 1);
+			for (int i = 0; i < index; i++) {
+				values[slot(i)] = values[slot(i + 1)];
+			}
+		}
+		else {
+			for (int i = size; i > index; i--) {
+				values[slot(i)] = values[slot(i - 1)];
+			}
+		}
+		values[slot(index)] = value;
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Removes the first value of the list.
+	 * @return the value at the start of the list.
+	 */
+	public long removeFirst() {
+		if (isEmpty()) {
+			throw new EmptyDataStructureException();
+		}
+		long value = values[head];
+		head = slot(1);
+		size--;
+		modCount++;
+		return value;
+	}
+
+	/**
+	 * Removes the last value of the list.
+	 * @return the value at the end of the list.
+	 */
+	public long removeLast() {
+		if (isEmpty()) {
+			throw new EmptyDataStructureException();
+		}
+		size--;
+		modCount++;
+		return values[slot(size)];
+	}
+
+	/**
+	 * Removes the value at the given index without boxing it. The
+	 * values on the shorter side of the index are moved.
+	 * @param index The index of the value.
+	 * @return The removed value.
+	 */
+	public long removeLong(int index) {
+		if (isEmpty()) {
+			throw new EmptyDataStructureException();
+		}
+		checkIndex(index);
+		index %= size;
+		long value = values[slot(index)];
+		if (index < size - 1 - index) {
+			for (int i = index; i > 0; i--) {
+				values[slot(i)] = values[slot(i - 1)];
+			}
+			head = slot(1);
+		}
+		else {
+			for (int i = index; i < size - 1; i++) {
+				values[slot(i)] = values[slot(i + 1)];
+			}
+		}
+		size--;
+		modCount++;
+		return value;
+	}
+
+	@Override
+	public Long remove(int index) {
+		return removeLong(index);
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		int index = indexOf(o);
+		if (index != -1) {
+			removeLong(index);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Gives the index of the first occurrence of the value.
+	 * @param value The value to look for.
+	 * @return The index of the value, -1 if it is not in the list.
+	 */
+	public int indexOf(long value) {
+		for (int i = 0; i < size; i++) {
+			if (values[slot(i)] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Gives the index of the last occurrence of the value.
+	 * @param value The value to look for.
+	 * @return The index of the value, -1 if it is not in the list.
+	 */
+	public int lastIndexOf(long value) {
+		for (int i = size - 1; i >= 0; i--) {
+			if (values[slot(i)] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Tells if the value is in the list.
+	 * @param value The value to look for.
+	 * @return true if the value is in the list.
+	 */
+	public boolean contains(long value) {
+		return indexOf(value) != -1;
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		return o instanceof Long ? indexOf(((Long) o).longValue()) : -1;
+	}
+
+	@Override
+	public int lastIndexOf(Object o) {
+		return o instanceof Long ? lastIndexOf(((Long) o).longValue()) : -1;
+	}
+
+	@Override
+	public void clear() {
+		head = 0;
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The values on the shorter side of the range are moved once.
+	 */
+	@Override
+	protected void removeRange(int fromIndex, int toIndex) {
+		int count = toIndex - fromIndex;
+		if (count <= 0) {
+			return;
+		}
+		if (fromIndex < size - toIndex) {
+			for (int i = fromIndex - 1; i >= 0; i--) {
+				values[slot(i + count)] = values[slot(i)];
+			}
+			head = slot(count);
+		}
+		else {
+			for (int i = toIndex; i < size; i++) {
+				values[slot(i - count)] = values[slot(i)];
+			}
+		}
+		size -= count;
+		modCount++;
+	}
+
+	/**
+	 * Rotates the list so the value at the given index becomes the
+	 * first value. A negative distance rotates the other way.
+	 * When the array is full only the start of the list moves.
+	 * Otherwise the values on the shorter side of the index are moved
+	 * to the other end of the list.
+	 * @param distance The index of the value that becomes the first.
+	 * @see CircularArrayList#rotate(int)
+	 */
+	public void rotate(int distance) {
+		if (size == 0) {
+			return;
+		}
+		distance %= size;
+		if (distance < 0) {
+			distance += size;
+		}
+		if (distance == 0) {
+			return;
+		}
+		modCount++;
+		int mask = values.length - 1;
+		if (size == values.length) {
+			head = (head + distance) & mask;
+		}
+		else if (distance <= size - distance) {
+			for (; distance > 0; distance--) {
+				values[slot(size)] = values[head];
+				head = (head + 1) & mask;
+			}
+		}
+		else {
+			for (distance = size - distance; distance > 0; distance--) {
+				head = (head - 1) & mask;
+				values[head] = values[slot(size)];
+			}
+		}
+	}
+
+	/**
+	 * Copies the values to a new array, from the first to the last.
+	 * @return The values in the list.
+	 */
+	public long[] toLongArray() {
+		long[] array = new long[size];
+		int front = Math.min(size, values.length - head);
+		System.arraycopy(values, head, array, 0, front);
+		System.arraycopy(values, 0, array, front, size - front);
+		return array;
+	}
+
+	@Override
+	public int hashCode() {
+		int hashCode = 1;
+		for (int i = 0; i < size; i++) {
+			hashCode = 31 * hashCode + Long.hashCode(values[slot(i)]);
+		}
+		return hashCode;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The spliterator gives the values without boxing them, knows its
+	 * size and splits in half. It covers the values that are in the list
+	 * when it is created.
+	 */
+	@Override
+	public Spliterator.OfLong spliterator() {
+		return new LongCircularListSpliterator(values, head, 0, size,
+				modCount);
+	}
+
+	/**
+	 * Creates a stream over the values that does not box them. Call
+	 * parallel on it to use every core.
+	 * @return A sequential stream of the values.
+	 */
+	public LongStream longStream() {
+		return StreamSupport.longStream(spliterator(), false);
+	}
+
+	@Override
+	public AbstractList<Long> newList() {
+		return new LongCircularList();
+	}
+
+	@Override
+	protected boolean isIndex(int index) {
+		return size > 0 && index >= 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The clone gets its own copy of the array.
+	 */
+	@Override
+	public LongCircularList clone() throws CloneNotSupportedException {
+		LongCircularList clone = (LongCircularList) super.clone();
+		clone.values = values.clone();
+		return clone;
+	}
+
+	/**
+	 * Gives the index in the array of the value at the given index in
+	 * the list.
+	 * @param index The index in the list, from 0 up to the capacity.
+	 * @return The index in the array.
+	 */
+	private int slot(int index) {
+		return (head + index) & (values.length - 1);
+	}
+
+	/**
+	 * Makes sure there is room for one more value. When the array is
+	 * full it is doubled and the values are copied to the start of the
+	 * new array.
+	 */
+	private void ensureCapacity() {
+		if (size < values.length) {
+			return;
+		}
+		int length = values.length;
+		if (length << 1 < 0) {
+			throw new OutOfMemoryError("The list is too large");
+		}
+		long[] grown = new long[length << 1];
+		int front = length - head;
+		System.arraycopy(values, head, grown, 0, front);
+		System.arraycopy(values, 0, grown, front, head);
+		values = grown;
+		head = 0;
+	}
+
+	/**
+	 * The Spliterator of the LongCircularList. It covers a range of
+	 * indices of the list and splits it in half.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see Spliterator.OfLong
+	 * @see LongCircularList#spliterator()
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	private class LongCircularListSpliterator implements Spliterator.OfLong {
+
+		/**
+		 * The array of the list when the spliterator was created.
+		 */
+		private final long[] array;
+
+		/**
+		 * The index in the array of the first value of the list.
+		 */
+		private final int first;
+
+		/**
+		 * The index in the list of the next value.
+		 */
+		private int index;
+
+		/**
+		 * The index in the list after the last value of the range.
+		 */
+		private final int fence;
+
+		/**
+		 * The modCount the spliterator expects the list to have.
+		 */
+		private final int expectedModCount;
+
+		/**
+		 * Creates a spliterator over a range of the list.
+		 * @param array The array of the list.
+		 * @param first The index in the array of the first value.
+		 * @param index The first index in the list of the range.
+		 * @param fence The index in the list after the range.
+		 * @param expectedModCount The modCount of the list.
+		 */
+		public LongCircularListSpliterator(long[] array, int first,
+				int index, int fence, int expectedModCount) {
+			this.array = array;
+			this.first = first;
+			this.index = index;
+			this.fence = fence;
+			this.expectedModCount = expectedModCount;
+		}
+
+		@Override
+		public boolean tryAdvance(LongConsumer action) {
+			if (action == null) {
+				throw new NullPointerException();
+			}
+			if (index >= fence) {
+				return false;
+			}
+			long value = array[(first + index) & (array.length - 1)];
+			index++;
+			action.accept(value);
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(LongConsumer action) {
+			if (action == null) {
+				throw new NullPointerException();
+			}
+			int mask = array.length - 1;
+			for (int i = index; i < fence; i++) {
+				action.accept(array[(first + i) & mask]);
+			}
+			index = fence;
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		@Override
+		public Spliterator.OfLong trySplit() {
+			int mid = (index + fence) >>> 1;
+			if (index >= mid) {
+				return null;
+			}
+			int start = index;
+			index = mid;
+			return new LongCircularListSpliterator(array, first, start,
+					mid, expectedModCount);
+		}
+
+		@Override
+		public long estimateSize() {
+			return fence - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED
+					| Spliterator.SUBSIZED | Spliterator.NONNULL;
+		}
+	}
+
+	/**
+	 * The Iterator of the LongCircularList. It walks over the values from
+	 * the first to the last without boxing them.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see ResetableLongIterator
+	 * @see LongCircularList
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	private class LongCircularListIterator implements ResetableLongIterator {
+
+		/**
+		 * The index of the value returned by the next call to next.
+		 */
+		private int cursor;
+
+		/**
+		 * The modCount the iterator expects the list to have.
+		 */
+		private int expectedModCount;
+
+		/**
+		 * Creates an Iterator that starts at the first value.
+		 */
+		public LongCircularListIterator() {
+			reset();
+		}
+
+		/**
+		 * Resets the Iterator so it can start again.
+		 */
+		@Override
+		public void reset() {
+			cursor = 0;
+			expectedModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return cursor < size;
+		}
+
+		@Override
+		public long nextLong() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			long value = values[slot(cursor)];
+			cursor++;
+			return value;
+		}
+	}
+}
@@ -0,0 +1,929 @@
+package datastructures;
+
+import interfaces.ResetableIterator;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * The persistent circular list is a list that never changes. Adding,
+ * removing, replacing and rotating give a new version of the list and
+ * leave the old one as it is. The versions share all of their structure
+ * except for the path to the changed element, so a new version costs
+ * logarithmic time and space instead of a copy of the list.
+ *
+ * <p>
+ * Because a version never changes, holding on to one is a snapshot.
+ * A writer can keep the current version in a volatile field and
+ * replace it with every change, while readers take the field and
+ * iterate over it without locking and without copying. All fields are
+ * final, so a version can be handed to another thread safely.
+ * </p>
+ *
+ * <p>
+ * The elements are kept in a weight balanced tree ordered by index,
+ * in which every node knows the size of its subtree. Getting, setting,
+ * adding and removing at any index take O(log n) time. Rotating and
+ * joining two lists take O(log n) as well, since the tree can be split
+ * at an index and joined again. Like the other circular lists the
+ * indices go around the circle. The methods of {@link List} that would
+ * change the list throw an {@link UnsupportedOperationException}.
+ * </p>
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see AbstractList
+ * @see CircularLinkedList
+ *
+ * @author stefanboodt
+ *
+ * @param<E> The type stored in this list.
+ */
+public class PersistentCircularList<E> extends AbstractList<E> {
+
+	/**
+	 * A subtree may be at most this many times as large as its sibling.
+	 */
+	private static final int DELTA = 3;
+
+	/**
+	 * The size ratio of the children of the heavier subtree below which
+	 * a single rotation is enough to restore the balance.
+	 */
+	private static final int RATIO = 2;
+
+	/**
+	 * The empty list.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final PersistentCircularList EMPTY =
+			new PersistentCircularList<Object>((Node<Object>) null);
+
+	/**
+	 * The root of the tree, null if the list is empty.
+	 */
+	private final Node<E> root;
+
+	/**
+	 * Creates a new, empty PersistentCircularList.
+	 */
+	public PersistentCircularList() {
+		this((Node<E>) null);
+	}
+
+	/**
+	 * Creates a new PersistentCircularList with the elements of the
+	 * given Collection in the order of its iterator.
+	 * @see Collection
+	 * @param startUp The elements of the list.
+	 */
+	public PersistentCircularList(Collection<E> startUp) {
+		this(PersistentCircularList.<E>build(startUp.toArray()));
+	}
+
+	/**
+	 * Creates a new PersistentCircularList with the given elements. Only
+	 * the elements are read, the array is not kept.
+	 * @param startup The elements of the list.
+	 */
+	@SafeVarargs
+	public PersistentCircularList(final E ... startup) {
+		this(PersistentCircularList.<E>build(new IntFunction<E>() {
+			@Override
+			public E apply(int index) {
+				return startup[index];
+			}
+		}, 0, startup.length));
+	}
+
+	/**
+	 * Creates a version with the given tree.
+	 * @param root The root of the tree.
+	 */
+	private PersistentCircularList(Node<E> root) {
+		super();
+		this.root = root;
+	}
+
+	/**
+	 * Gives the empty list.
+	 * @param <E> The type stored in the list.
+	 * @return The empty list.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> PersistentCircularList<E> empty() {
+		return (PersistentCircularList<E>) EMPTY;
+	}
+
+	/**
+	 * Creates a list of the given elements.
+	 * @param <E> The type stored in the list.
+	 * @param elements The elements of the list.
+	 * @return The list.
+	 */
+	@SafeVarargs
+	public static <E> PersistentCircularList<E> of(final E ... elements) {
+		return new PersistentCircularList<E>(
+				PersistentCircularList.<E>build(new IntFunction<E>() {
+					@Override
+					public E apply(int index) {
+						return elements[index];
+					}
+				}, 0, elements.length));
+	}
+
+	@Override
+	public int size() {
+		return size(root);
+	}
+
+	@Override
+	public E get(int index) {
+		checkIndex(index);
+		index %= size();
+		Node<E> node = root;
+		while (true) {
+			int left = size(node.left);
+			if (index < left) {
+				node = node.left;
+			}
+			else if (index > left) {
+				index -= left + 1;
+				node = node.right;
+			}
+			else {
+				return node.value;
+			}
+		}
+	}
+
+	/**
+	 * Gives the version with the element at the given index replaced.
+	 * @param index The index of the element to replace.
+	 * @param element The new element.
+	 * @return The new version.
+	 */
+	public PersistentCircularList<E> with(int index, E element) {
+		checkIndex(index);
+		return new PersistentCircularList<E>(
+				with(root, index % size(), element));
+	}
+
+	/**
+	 * Gives the version with the element added at the given index.
+	 * Adding at the size adds the element to the end of the list.
+	 * @param index The index of the new element.
+	 * @param element The element to be added.
+	 * @return The new version.
+	 */
+	public PersistentCircularList<E> plus(int index, E element) {
+		if (index != size()) {
+			checkIndex(index);
+			index %= size();
+		}
+		return new PersistentCircularList<E>(insert(root, index, element));
+	}
+
+	/**
+	 * Gives the version with the element added to the end of the list.
+	 * @param element The element to be added.
+	 * @return The new version.
+	 */
+	public PersistentCircularList<E> plus(E element) {
+		return plusLast(element);
+	}
+
+	/**
+	 * Gives the version with the element added to the beginning of the
+	 * list.
+	 * @param element The element to be added.
+	 * @return The new version.
+	 */
+	public PersistentCircularList<E> plusFirst(E element) {
+		return new PersistentCircularList<E>(insert(root, 0, element));
+	}
+
+	/**
+	 * Gives the version with the element added to the end of the list.
+	 * @param element The element to be added.
+	 * @return The new version.
+	 */
+	public PersistentCircularList<E> plusLast(E element) {
+		return new PersistentCircularList<E>(
+				insert(root, size(), element));
+	}
+
+	/**
+	 * Gives the version with the elements of the given list added to
+	 * the end. The two lists share their structure with the result.
+	 * @param other The list to be added.
+	 * @return The new version.
+	 */
+	public PersistentCircularList<E> plusAll(PersistentCircularList<E> other) {
+		return new PersistentCircularList<E>(merge(root, other.root));
+	}
+
+	/**
+	 * Gives the version without the element at the given index.
+	 * @param index The index of the element to be removed.
+	 * @return The new version.
+	 */
+	public PersistentCircularList<E> minus(int index) {
+		if (isEmpty()) {
+			throw new EmptyDataStructureException();
+		}
+		checkIndex(index);
+		return new PersistentCircularList<E>(delete(root, index % size()));
+	}
+
+	/**
+	 * Gives the version without the first element.
+	 * @return The new version.
+	 */
+	public PersistentCircularList<E> minusFirst() {
+		return minus(0);
+	}
+
+	/**
+	 * Gives the version without the last element.
+	 * @return The new version.
+	 */
+	public PersistentCircularList<E> minusLast() {
+		return minus(size() - 1);
+	}
+
+	/**
+	 * Gives the version that starts at the given index, so the element
+	 * at index k becomes the first one. A negative k rotates the other
+	 * way.
+	 * @param k The amount of places to rotate.
+	 * @return The new version.
+	 */
+	public PersistentCircularList<E> rotate(int k) {
+		int size = size();
+		if (size == 0) {
+			return this;
+		}
+		k %= size;
+		if (k < 0) {
+			k += size;
+		}
+		if (k == 0) {
+			return this;
+		}
+		Split<E> split = split(root, k);
+		return new PersistentCircularList<E>(merge(split.after,
+				split.before));
+	}
+
+	/**
+	 * Gives the version with only the elements from fromIndex up to
+	 * toIndex. Unlike {@link #subList(int, int)} the result does not
+	 * refer to this list beyond the structure the two share.
+	 * @param fromIndex The index of the first element.
+	 * @param toIndex The index after the last element.
+	 * @return The new version.
+	 */
+	public PersistentCircularList<E> slice(int fromIndex, int toIndex) {
+		checkRange(fromIndex, toIndex, size());
+		Node<E> before = split(root, toIndex).before;
+		return new PersistentCircularList<E>(split(before, fromIndex).after);
+	}
+
+	@Override
+	public ResetableIterator<E> iterator() {
+		return new PersistentCircularListIterator(0);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The spliterator knows its size and splits the range of indices in
+	 * half. It starts walking the tree at the first element of its
+	 * range.
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return new PersistentCircularListSpliterator(0, size());
+	}
+
+	@Override
+	public AbstractList<E> newList() {
+		return empty();
+	}
+
+	@Override
+	protected boolean isIndex(int index) {
+		return root != null && index >= 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A version never changes, so it is its own clone.
+	 */
+	@Override
+	public PersistentCircularList<E> clone() {
+		return this;
+	}
+
+	/**
+	 * Not supported, use {@link #plus(Object)}.
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public boolean add(E e) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported, use {@link #plus(int, Object)}.
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public void add(int index, E element) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported, use {@link #with(int, Object)}.
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public E set(int index, E element) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported, use {@link #minus(int)}.
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public E remove(int index) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported.
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public boolean remove(Object o) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported, use {@link #empty()}.
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public void clear() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported, use {@link #plusAll(PersistentCircularList)}.
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public boolean addAll(Collection<? extends E> c) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported.
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public boolean addAll(int index, Collection<? extends E> c) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported.
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public boolean removeIf(Predicate<? super E> filter) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported.
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public boolean removeAll(Collection<?> c) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported.
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	public boolean retainAll(Collection<?> c) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Not supported.
+	 * @throws UnsupportedOperationException always.
+	 */
+	@Override
+	protected void removeRange(int fromIndex, int toIndex) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Gives the size of a tree.
+	 * @param node The root of the tree, may be null.
+	 * @return The amount of elements in the tree.
+	 */
+	private static int size(Node<?> node) {
+		return node == null ? 0 : node.size;
+	}
+
+	/**
+	 * Builds a perfectly balanced tree of the elements of an array.
+	 * @param <E> The type stored in the tree.
+	 * @param elements The elements, all of type E.
+	 * @return The root of the tree.
+	 */
+	private static <E> Node<E> build(final Object[] elements) {
+		return build(new IntFunction<E>() {
+			@SuppressWarnings("unchecked")
+			@Override
+			public E apply(int index) {
+				return (E) elements[index];
+			}
+		}, 0, elements.length);
+	}
+
+	/**
+	 * Builds a perfectly balanced tree of a range of elements.
+	 * @param <E> The type stored in the tree.
+	 * @param elements Gives the element at an index.
+	 * @param from The index of the first element.
+	 * @param to The index after the last element.
+	 * @return The root of the tree.
+	 */
+	private static <E> Node<E> build(IntFunction<? extends E> elements,
+			int from, int to) {
+		if (from >= to) {
+			return null;
+		}
+		int mid = (from + to) >>> 1;
+		return new Node<E>(PersistentCircularList.<E>build(elements, from,
+				mid), elements.apply(mid),
+				PersistentCircularList.<E>build(elements, mid + 1, to));
+	}
+
+	/**
+	 * Gives a copy of the path to the given index with the element
+	 * replaced.
+	 * @param <E> The type stored in the tree.
+	 * @param node The root of the tree.
+	 * @param index The index in the tree.
+	 * @param element The new element.
+	 * @return The root of the new tree.
+	 */
+	private static <E> Node<E> with(Node<E> node, int index, E element) {
+		int left = size(node.left);
+		if (index < left) {
+			return new Node<E>(with(node.left, index, element), node.value,
+					node.right);
+		}
+		if (index > left) {
+			return new Node<E>(node.left, node.value,
+					with(node.right, index - left - 1, element));
+		}
+		return new Node<E>(node.left, element, node.right);
+	}
+
+	/**
+	 * Gives the tree with the element inserted at the given index.
+	 * @param <E> The type stored in the tree.
+	 * @param node The root of the tree.
+	 * @param index The index in the tree, up to its size.
+	 * @param element The element to be inserted.
+	 * @return The root of the new tree.
+	 */
+	private static <E> Node<E> insert(Node<E> node, int index, E element) {
+		if (node == null) {
+			return new Node<E>(null, element, null);
+		}
+		int left = size(node.left);
+		if (index <= left) {
+			return balance(insert(node.left, index, element), node.value,
+					node.right);
+		}
+		return balance(node.left, node.value,
+				insert(node.right, index - left - 1, element));
+	}
+
+	/**
+	 * Gives the tree without the element at the given index.
+	 * @param <E> The type stored in the tree.
+	 * @param node The root of the tree.
+	 * @param index The index in the tree.
+	 * @return The root of the new tree.
+	 */
+	private static <E> Node<E> delete(Node<E> node, int index) {
+		int left = size(node.left);
+		if (index < left) {
+			return balance(delete(node.left, index), node.value,
+					node.right);
+		}
+		if (index > left) {
+			return balance(node.left, node.value,
+					delete(node.right, index - left - 1));
+		}
+		return glue(node.left, node.right);
+	}
+
+	/**
+	 * Splits the tree in the elements before the given index and the
+	 * elements from the index on.
+	 * @param <E> The type stored in the tree.
+	 * @param node The root of the tree.
+	 * @param index The index to split at, up to the size of the tree.
+	 * @return The two trees.
+	 */
+	private static <E> Split<E> split(Node<E> node, int index) {
+		if (node == null) {
+			return new Split<E>(null, null);
+		}
+		int left = size(node.left);
+		if (index <= left) {
+			Split<E> split = split(node.left, index);
+			return new Split<E>(split.before,
+					link(split.after, node.value, node.right));
+		}
+		Split<E> split = split(node.right, index - left - 1);
+		return new Split<E>(link(node.left, node.value, split.before),
+				split.after);
+	}
+
+	/**
+	 * Joins two trees of any size with an element in between.
+	 * @param <E> The type stored in the trees.
+	 * @param left The tree with the elements before the element.
+	 * @param value The element in between.
+	 * @param right The tree with the elements after the element.
+	 * @return The root of the joined tree.
+	 */
+	private static <E> Node<E> link(Node<E> left, E value, Node<E> right) {
+		if (left == null) {
+			return insert(right, 0, value);
+		}
+		if (right == null) {
+			return insert(left, left.size, value);
+		}
+		if (DELTA * left.size < right.size) {
+			return balance(link(left, value, right.left), right.value,
+					right.right);
+		}
+		if (DELTA * right.size < left.size) {
+			return balance(left.left, left.value,
+					link(left.right, value, right));
+		}
+		return new Node<E>(left, value, right);
+	}
+
+	/**
+	 * Joins two trees of any size.
+	 * @param <E> The type stored in the trees.
+	 * @param left The tree with the first elements.
+	 * @param right The tree with the last elements.
+	 * @return The root of the joined tree.
+	 */
+	private static <E> Node<E> merge(Node<E> left, Node<E> right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		if (DELTA * left.size < right.size) {
+			return balance(merge(left, right.left), right.value,
+					right.right);
+		}
+		if (DELTA * right.size < left.size) {
+			return balance(left.left, left.value,
+					merge(left.right, right));
+		}
+		return glue(left, right);
+	}
+
+	/**
+	 * Joins two trees that are in balance with each other, by taking
+	 * the element next to the gap from the larger one as the root.
+	 * @param <E> The type stored in the trees.
+	 * @param left The tree with the first elements.
+	 * @param right The tree with the last elements.
+	 * @return The root of the joined tree.
+	 */
+	private static <E> Node<E> glue(Node<E> left, Node<E> right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		if (left.size > right.size) {
+			Node<E> last = left;
+			while (last.right != null) {
+				last = last.right;
+			}
+			return balance(delete(left, left.size - 1), last.value, right);
+		}
+		Node<E> first = right;
+		while (first.left != null) {
+			first = first.left;
+		}
+		return balance(left, first.value, delete(right, 0));
+	}
+
+	/**
+	 * Creates a node and rotates it when one side has become too heavy
+	 * by a single change.
+	 * @param <E> The type stored in the tree.
+	 * @param left The left subtree.
+	 * @param value The element of the node.
+	 * @param right The right subtree.
+	 * @return The root of the balanced tree.
+	 */
+	private static <E> Node<E> balance(Node<E> left, E value,
+			Node<E> right) {
+		int sl = size(left);
+		int sr = size(right);
+		if (sl + sr <= 1) {
+			return new Node<E>(left, value, right);
+		}
+		if (sr > DELTA * sl) {
+			if (size(right.left) < RATIO * size(right.right)) {
+				return new Node<E>(new Node<E>(left, value, right.left),
+						right.value, right.right);
+			}
+			Node<E> rl = right.left;
+			return new Node<E>(new Node<E>(left, value, rl.left), rl.value,
+					new Node<E>(rl.right, right.value, right.right));
+		}
+		if (sl > DELTA * sr) {
+			if (size(left.right) < RATIO * size(left.left)) {
+				return new Node<E>(left.left, left.value,
+						new Node<E>(left.right, value, right));
+			}
+			Node<E> lr = left.right;
+			return new Node<E>(new Node<E>(left.left, left.value, lr.left),
+					lr.value, new Node<E>(lr.right, value, right));
+		}
+		return new Node<E>(left, value, right);
+	}
+
+	/**
+	 * The Iterator of the PersistentCircularList. It walks the tree in
+	 * order with a stack of the nodes of which the left subtree is being
+	 * walked.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see ResetableIterator
+	 * @see PersistentCircularList
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	private class PersistentCircularListIterator implements
+			ResetableIterator<E> {
+
+		/**
+		 * The index the iterator starts at.
+		 */
+		private final int start;
+
+		/**
+		 * The nodes of which the element and right subtree are still to
+		 * be walked. The next element is at the top.
+		 */
+		private final Deque<Node<E>> stack = new ArrayDeque<Node<E>>();
+
+		/**
+		 * Creates an Iterator that starts at the given index.
+		 * @param start The index of the first element, up to the size.
+		 */
+		public PersistentCircularListIterator(int start) {
+			this.start = start;
+			reset();
+		}
+
+		/**
+		 * Resets the Iterator so it can start again.
+		 */
+		@Override
+		public void reset() {
+			stack.clear();
+			Node<E> node = root;
+			int index = start;
+			while (node != null) {
+				int left = size(node.left);
+				if (index < left) {
+					stack.push(node);
+					node = node.left;
+				}
+				else if (index > left) {
+					index -= left + 1;
+					node = node.right;
+				}
+				else {
+					stack.push(node);
+					node = null;
+				}
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return !stack.isEmpty();
+		}
+
+		@Override
+		public E next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Node<E> node = stack.pop();
+			for (Node<E> n = node.right; n != null; n = n.left) {
+				stack.push(n);
+			}
+			return node.value;
+		}
+	}
+
+	/**
+	 * The Spliterator of the PersistentCircularList. It covers a range of
+	 * indices and starts walking the tree when the first element is
+	 * asked for.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see Spliterator
+	 * @see PersistentCircularList#spliterator()
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	private class PersistentCircularListSpliterator implements
+			Spliterator<E> {
+
+		/**
+		 * The index of the next element.
+		 */
+		private int index;
+
+		/**
+		 * The index after the last element.
+		 */
+		private final int end;
+
+		/**
+		 * The iterator over the range, null until it is started.
+		 */
+		private PersistentCircularListIterator it;
+
+		/**
+		 * Creates a spliterator over a range of elements.
+		 * @param from The index of the first element.
+		 * @param to The index after the last element.
+		 */
+		public PersistentCircularListSpliterator(int from, int to) {
+			this.index = from;
+			this.end = to;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			if (action == null) {
+				throw new NullPointerException();
+			}
+			if (index >= end) {
+				return false;
+			}
+			if (it == null) {
+				it = new PersistentCircularListIterator(index);
+			}
+			index++;
+			action.accept(it.next());
+			return true;
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			int mid = (index + end) >>> 1;
+			if (it != null || mid <= index) {
+				return null;
+			}
+			PersistentCircularListSpliterator prefix =
+					new PersistentCircularListSpliterator(index, mid);
+			index = mid;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return end - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED
+					| Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+		}
+	}
+
+	/**
+	 * The result of splitting a tree at an index.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @author stefanboodt
+	 *
+	 * @param <E> The type stored in the trees.
+	 */
+	private static final class Split<E> {
+
+		/**
+		 * The tree with the elements before the index.
+		 */
+		private final Node<E> before;
+
+		/**
+		 * The tree with the elements from the index on.
+		 */
+		private final Node<E> after;
+
+		/**
+		 * Creates the result of a split.
+		 * @param before The tree with the elements before the index.
+		 * @param after The tree with the elements from the index on.
+		 */
+		public Split(Node<E> before, Node<E> after) {
+			this.before = before;
+			this.after = after;
+		}
+	}
+
+	/**
+	 * A node of the tree of the PersistentCircularList. Nodes never
+	 * change, so they can be shared by any number of versions.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see PersistentCircularList
+	 *
+	 * @author stefanboodt
+	 *
+	 * @param <E> The type stored in the node.
+	 */
+	private static final class Node<E> {
+
+		/**
+		 * The elements before the element of this node.
+		 */
+		private final Node<E> left;
+
+		/**
+		 * The element of this node.
+		 */
+		private final E value;
+
+		/**
+		 * The elements after the element of this node.
+		 */
+		private final Node<E> right;
+
+		/**
+		 * The amount of elements in the tree of this node.
+		 */
+		private final int size;
+
+		/**
+		 * Creates a node.
+		 * @param left The left subtree.
+		 * @param value The element.
+		 * @param right The right subtree.
+		 */
+		public Node(Node<E> left, E value, Node<E> right) {
+			this.left = left;
+			this.value = value;
+			this.right = right;
+			this.size = size(left) + size(right) + 1;
+		}
+	}
+}
@@ -0,0 +1,766 @@
+package datastructures;
+
+import interfaces.ResetableIterator;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * The unrolled circular list is a doubly linked circular list of which
+ * every node, called a chunk, holds a small array of elements instead
+ * of a single element. The elements of a chunk are next to each other
+ * in memory and there is one chunk for every few dozen elements, so
+ * walking over the list is several times faster than over a
+ * {@link CircularLinkedList} and the list takes less memory.
+ *
+ * <p>
+ * A full chunk is split in two when an element is added to it in the
+ * middle of the list, and a chunk that becomes less than half full is
+ * merged with the next chunk when they fit in one. Adding and removing
+ * at both ends takes constant time. Like the {@link CircularLinkedList}
+ * the indices go around the circle, so an index past the end gives the
+ * elements at the start again.
+ * </p>
+ *
+ * <p>
+ * A look up by index remembers the chunk it found together with the
+ * index of its first element in one {@link Finger}, so threads that only
+ * read the list can still share it.
+ * </p>
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see AbstractList
+ * @see CircularLinkedList
+ * @see CircularArrayList
+ *
+ * @author stefanboodt
+ *
+ * @param<E> The type stored in this list.
+ */
+public class UnrolledCircularList<E> extends AbstractList<E> {
+
+	/**
+	 * The amount of elements a chunk holds when no capacity is given.
+	 */
+	private static final int DEFAULT_CHUNK_CAPACITY = 32;
+
+	/**
+	 * The amount of elements a chunk can hold.
+	 */
+	private final int chunkCapacity;
+
+	/**
+	 * The chunk with the last elements of the list, null if the list
+	 * is empty. The chunk after it has the first elements.
+	 */
+	private Chunk<E> tail;
+
+	/**
+	 * The amount of elements in the list.
+	 */
+	private int size;
+
+	/**
+	 * The chunk that was looked up last with the index of its first
+	 * element, null if there is none or if the list changed after the
+	 * look up.
+	 */
+	private Finger<E> finger;
+
+	/**
+	 * Creates a new UnrolledCircularList.
+	 */
+	public UnrolledCircularList() {
+		this(DEFAULT_CHUNK_CAPACITY);
+	}
+
+	/**
+	 * Creates a new UnrolledCircularList with chunks of the given
+	 * capacity. Chunks of 16 to 64 elements work best.
+	 * @param chunkCapacity The amount of elements a chunk can hold.
+	 */
+	public UnrolledCircularList(int chunkCapacity) {
+		super();
+		if (chunkCapacity < 2) {
+			throw new IllegalArgumentException("Illegal Capacity: "
+					+ chunkCapacity);
+		}
+		this.chunkCapacity = chunkCapacity;
+		tail = null;
+		size = 0;
+	}
+
+	/**
+	 * Creates a new UnrolledCircularList with the given Collection as
+	 * default values. It starts the List and adds all values in the
+	 * Collection.
+	 * @see Collection
+	 * @param startUp The default values.
+	 */
+	public UnrolledCircularList(Collection<E> startUp) {
+		this();
+		addAll(startUp);
+	}
+
+	/**
+	 * Creates a new UnrolledCircularList with the given elements as
+	 * default values.
+	 * @param startup The default values.
+	 */
+	@SafeVarargs
+	public UnrolledCircularList(E ... startup) {
+		this();
+		for (E el: startup) {
+			add(el);
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public ResetableIterator<E> iterator() {
+		return new UnrolledCircularListIterator();
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		int index = indexOf(o);
+		if (index != -1) {
+			this.remove(index);
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		Chunk<E> chunk = tail;
+		while (chunk != null) {
+			Chunk<E> next = chunk.next;
+			chunk.next = null;
+			chunk.prev = null;
+			chunk = next == tail ? null : next;
+		}
+		tail = null;
+		size = 0;
+		finger = null;
+		modCount++;
+	}
+
+	@Override
+	public E get(int index) {
+		checkIndex(index);
+		index %= size;
+		Finger<E> found = chunk(index);
+		return found.chunk.get(index - found.start);
+	}
+
+	@Override
+	public E set(int index, E element) {
+		checkIndex(index);
+		index %= size;
+		Finger<E> found = chunk(index);
+		Chunk<E> chunk = found.chunk;
+		int offset = index - found.start;
+		E e = chunk.get(offset);
+		chunk.elements[offset] = element;
+		return e;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Adding at the size adds the element to the end of the list. When
+	 * the chunk of the index is full it is split in two.
+	 */
+	@Override
+	public void add(int index, E element) {
+		if (index == size) {
+			addLast(element);
+			return;
+		}
+		checkIndex(index);
+		index %= size;
+		if (index == 0) {
+			addFirst(element);
+			return;
+		}
+		Finger<E> found = chunk(index);
+		Chunk<E> chunk = found.chunk;
+		int offset = index - found.start;
+		if (chunk.count == chunkCapacity) {
+			Chunk<E> second = split(chunk);
+			if (offset > chunk.count) {
+				offset -= chunk.count;
+				chunk = second;
+			}
+		}
+		chunk.insert(offset, element);
+		size++;
+		finger = null;
+		modCount++;
+	}
+
+	@Override
+	public boolean add(E element) {
+		addLast(element);
+		return true;
+	}
+
+	/**
+	 * Adds the element to the beginning of the list.
+	 * @param element The element to be added.
+	 */
+	public void addFirst(E element) {
+		if (tail == null || tail.next.count == chunkCapacity) {
+			Chunk<E> chunk = linkAfter(tail);
+			if (tail == null) {
+				tail = chunk;
+			}
+		}
+		tail.next.insert(0, element);
+		size++;
+		finger = null;
+		modCount++;
+	}
+
+	/**
+	 * Adds the element to the end of the list.
+	 * @param element The element to be added.
+	 * @see #add(Object)
+	 */
+	public void addLast(E element) {
+		if (tail == null || tail.count == chunkCapacity) {
+			tail = linkAfter(tail);
+		}
+		tail.elements[tail.count] = element;
+		tail.count++;
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Removes the first element of the list.
+	 * @return the element at the start of the list.
+	 */
+	public E removeFirst() {
+		if (isEmpty()) {
+			throw new EmptyDataStructureException();
+		}
+		return remove(tail.next, 0);
+	}
+
+	/**
+	 * Removes the last element of the list.
+	 * @return the element at the end of the list.
+	 */
+	public E removeLast() {
+		if (isEmpty()) {
+			throw new EmptyDataStructureException();
+		}
+		return remove(tail, tail.count - 1);
+	}
+
+	@Override
+	public E remove(int index) {
+		if (isEmpty()) {
+			throw new EmptyDataStructureException();
+		}
+		checkIndex(index);
+		index %= size;
+		Finger<E> found = chunk(index);
+		return remove(found.chunk, index - found.start);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The spliterator knows its size and splits in half by walking over
+	 * the chunks, so the elements are never copied. It covers the
+	 * elements that are in the list when it is created.
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return new UnrolledCircularListSpliterator(
+				tail == null ? null : tail.next, 0, size);
+	}
+
+	@Override
+	public AbstractList<E> newList() {
+		return new UnrolledCircularList<E>(chunkCapacity);
+	}
+
+	@Override
+	protected boolean isIndex(int index) {
+		return tail != null && index >= 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The clone gets its own chunks.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public UnrolledCircularList<E> clone() throws CloneNotSupportedException {
+		UnrolledCircularList<E> clone =
+				(UnrolledCircularList<E>) super.clone();
+		clone.tail = null;
+		clone.size = 0;
+		clone.finger = null;
+		for (E el: this) {
+			clone.addLast(el);
+		}
+		return clone;
+	}
+
+	/**
+	 * Removes the element at the given offset of a chunk. A chunk that
+	 * becomes empty is removed and a chunk that becomes less than half
+	 * full takes in the next chunk when they fit in one.
+	 * @param chunk The chunk of the element.
+	 * @param offset The offset of the element in the chunk.
+	 * @return The removed element.
+	 */
+	private E remove(Chunk<E> chunk, int offset) {
+		E element = chunk.remove(offset);
+		size--;
+		finger = null;
+		modCount++;
+		if (chunk.count == 0) {
+			unlink(chunk);
+		}
+		else if (chunk != tail && chunk.count < chunkCapacity / 2
+				&& chunk.count + chunk.next.count <= chunkCapacity) {
+			Chunk<E> next = chunk.next;
+			System.arraycopy(next.elements, 0, chunk.elements, chunk.count,
+					next.count);
+			chunk.count += next.count;
+			unlink(next);
+		}
+		return element;
+	}
+
+	/**
+	 * Moves the second half of a full chunk to a new chunk after it.
+	 * @param chunk The chunk to be split.
+	 * @return The new chunk.
+	 */
+	private Chunk<E> split(Chunk<E> chunk) {
+		Chunk<E> second = linkAfter(chunk);
+		if (chunk == tail) {
+			tail = second;
+		}
+		int half = chunk.count >>> 1;
+		second.count = chunk.count - half;
+		System.arraycopy(chunk.elements, half, second.elements, 0,
+				second.count);
+		Arrays.fill(chunk.elements, half, chunk.count, null);
+		chunk.count = half;
+		return second;
+	}
+
+	/**
+	 * Creates an empty chunk after the given chunk. The tail is not
+	 * changed, so a chunk after the tail becomes the first chunk.
+	 * @param pred The chunk before the new chunk, null if the list has
+	 * no chunks.
+	 * @return The new chunk.
+	 */
+	private Chunk<E> linkAfter(Chunk<E> pred) {
+		Chunk<E> chunk = new Chunk<E>(chunkCapacity);
+		if (pred == null) {
+			chunk.next = chunk;
+			chunk.prev = chunk;
+		}
+		else {
+			chunk.prev = pred;
+			chunk.next = pred.next;
+			pred.next.prev = chunk;
+			pred.next = chunk;
+		}
+		return chunk;
+	}
+
+	/**
+	 * Removes the chunk from the ring.
+	 * @param chunk The chunk to be removed.
+	 */
+	private void unlink(Chunk<E> chunk) {
+		if (chunk.next == chunk) {
+			tail = null;
+		}
+		else {
+			chunk.prev.next = chunk.next;
+			chunk.next.prev = chunk.prev;
+			if (chunk == tail) {
+				tail = chunk.prev;
+			}
+		}
+		chunk.next = null;
+		chunk.prev = null;
+	}
+
+	/**
+	 * Finds the chunk with the element at the given index and makes it
+	 * the {@link #finger}. The offset in the chunk is the index minus
+	 * the start of the finger that is returned. The walk starts at the
+	 * first chunk, the tail or the chunk looked up last, whichever is
+	 * closest.
+	 * @param index The index, from 0 up to the size.
+	 * @return The chunk with the element and the index of its first
+	 * element.
+	 */
+	private Finger<E> chunk(int index) {
+		Chunk<E> chunk = tail.next;
+		int start = 0;
+		int tailStart = size - tail.count;
+		if (index >= tailStart || tailStart - index < index) {
+			chunk = tail;
+			start = tailStart;
+		}
+		Finger<E> finger = this.finger;
+		if (finger != null
+				&& Math.abs(index - finger.start) < Math.abs(index - start)) {
+			chunk = finger.chunk;
+			start = finger.start;
+		}
+		while (index >= start + chunk.count) {
+			start += chunk.count;
+			chunk = chunk.next;
+		}
+		while (index < start) {
+			chunk = chunk.prev;
+			start -= chunk.count;
+		}
+		finger = new Finger<E>(chunk, start);
+		this.finger = finger;
+		return finger;
+	}
+
+	/**
+	 * The Iterator of the UnrolledCircularList. It walks over the
+	 * arrays of the chunks.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see ResetableIterator
+	 * @see UnrolledCircularList
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	private class UnrolledCircularListIterator implements
+			ResetableIterator<E> {
+
+		/**
+		 * The chunk of the next element.
+		 */
+		private Chunk<E> chunk;
+
+		/**
+		 * The offset of the next element in the chunk.
+		 */
+		private int offset;
+
+		/**
+		 * The amount of elements that have been returned.
+		 */
+		private int returned;
+
+		/**
+		 * The modCount the iterator expects the list to have.
+		 */
+		private int expectedModCount;
+
+		/**
+		 * Creates an Iterator that starts at the first element.
+		 */
+		public UnrolledCircularListIterator() {
+			reset();
+		}
+
+		/**
+		 * Resets the Iterator so it can start again.
+		 */
+		@Override
+		public void reset() {
+			chunk = tail == null ? null : tail.next;
+			offset = 0;
+			returned = 0;
+			expectedModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return returned < size;
+		}
+
+		@Override
+		public E next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			if (offset == chunk.count) {
+				chunk = chunk.next;
+				offset = 0;
+			}
+			returned++;
+			return chunk.get(offset++);
+		}
+	}
+
+	/**
+	 * The Spliterator of the UnrolledCircularList. It covers a range of
+	 * elements that starts at an offset in a chunk.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see Spliterator
+	 * @see UnrolledCircularList#spliterator()
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	private class UnrolledCircularListSpliterator implements
+			Spliterator<E> {
+
+		/**
+		 * The chunk of the next element.
+		 */
+		private Chunk<E> chunk;
+
+		/**
+		 * The offset of the next element in the chunk.
+		 */
+		private int offset;
+
+		/**
+		 * The amount of elements left in the range.
+		 */
+		private int remaining;
+
+		/**
+		 * The modCount the spliterator expects the list to have.
+		 */
+		private final int expectedModCount = modCount;
+
+		/**
+		 * Creates a spliterator over a range of elements.
+		 * @param chunk The chunk of the first element.
+		 * @param offset The offset of the first element in the chunk.
+		 * @param length The amount of elements in the range.
+		 */
+		public UnrolledCircularListSpliterator(Chunk<E> chunk, int offset,
+				int length) {
+			this.chunk = chunk;
+			this.offset = offset;
+			this.remaining = length;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			if (action == null) {
+				throw new NullPointerException();
+			}
+			if (remaining <= 0) {
+				return false;
+			}
+			if (offset == chunk.count) {
+				chunk = chunk.next;
+				offset = 0;
+			}
+			E element = chunk.get(offset++);
+			remaining--;
+			action.accept(element);
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super E> action) {
+			if (action == null) {
+				throw new NullPointerException();
+			}
+			while (remaining > 0) {
+				if (offset == chunk.count) {
+					chunk = chunk.next;
+					offset = 0;
+				}
+				int end = Math.min(chunk.count, offset + remaining);
+				Object[] elements = chunk.elements;
+				for (int i = offset; i < end; i++) {
+					@SuppressWarnings("unchecked")
+					E element = (E) elements[i];
+					action.accept(element);
+				}
+				remaining -= end - offset;
+				offset = end;
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			int half = remaining >>> 1;
+			if (half == 0) {
+				return null;
+			}
+			UnrolledCircularListSpliterator prefix =
+					new UnrolledCircularListSpliterator(chunk, offset, half);
+			int skip = half;
+			while (skip > 0) {
+				if (offset == chunk.count) {
+					chunk = chunk.next;
+					offset = 0;
+				}
+				int step = Math.min(skip, chunk.count - offset);
+				offset += step;
+				skip -= step;
+			}
+			remaining -= half;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return remaining;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED
+					| Spliterator.SUBSIZED;
+		}
+	}
+
+	/**
+	 * A chunk together with the index in the list of its first element.
+	 * A look up replaces the finger as a whole with one write, and the
+	 * fields are final, so a thread that reads the finger never sees a
+	 * chunk with the start of another chunk.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see UnrolledCircularList
+	 *
+	 * @author stefanboodt
+	 *
+	 * @param <E> The type stored in the chunk.
+	 */
+	private static final class Finger<E> {
+
+		/**
+		 * The chunk that was looked up.
+		 */
+		private final Chunk<E> chunk;
+
+		/**
+		 * The index in the list of the first element of the chunk.
+		 */
+		private final int start;
+
+		/**
+		 * Creates a finger on the chunk.
+		 * @param chunk The chunk that was looked up.
+		 * @param start The index of the first element of the chunk.
+		 */
+		private Finger(Chunk<E> chunk, int start) {
+			this.chunk = chunk;
+			this.start = start;
+		}
+	}
+
+	/**
+	 * A node of the UnrolledCircularList. It holds up to a fixed amount
+	 * of elements at the start of its array.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see UnrolledCircularList
+	 *
+	 * @author stefanboodt
+	 *
+	 * @param <E> The type stored in the chunk.
+	 */
+	private static final class Chunk<E> {
+
+		/**
+		 * The elements, of which the first {@link #count} are used.
+		 */
+		private final Object[] elements;
+
+		/**
+		 * The amount of elements in the chunk.
+		 */
+		private int count;
+
+		/**
+		 * The next chunk.
+		 */
+		private Chunk<E> next;
+
+		/**
+		 * The previous chunk.
+		 */
+		private Chunk<E> prev;
+
+		/**
+		 * Creates an empty chunk.
+		 * @param capacity The amount of elements the chunk can hold.
+		 */
+		public Chunk(int capacity) {
+			elements = new Object[capacity];
+		}
+
+		/**
+		 * Gets the element at the given offset.
+		 * @param offset The offset in the chunk.
+		 * @return The element.
+		 */
+		@SuppressWarnings("unchecked")
+		public E get(int offset) {
+			return (E) elements[offset];
+		}
+
+		/**
+		 * Inserts the element at the given offset. The chunk must not be
+		 * full.
+		 * @param offset The offset in the chunk.
+		 * @param element The element to be inserted.
+		 */
+		public void insert(int offset, E element) {
+			System.arraycopy(elements, offset, elements, offset + 1,
+					count - offset);
+			elements[offset] = element;
+			count++;
+		}
+
+		/**
+		 * Removes the element at the given offset.
+		 * @param offset The offset in the chunk.
+		 * @return The removed element.
+		 */
+		public E remove(int offset) {
+			E element = get(offset);
+			count--;
+			System.arraycopy(elements, offset + 1, elements, offset,
+					count - offset);
+			elements[count] = null;
+			return element;
+		}
+	}
+}
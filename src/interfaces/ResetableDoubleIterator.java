@@ -0,0 +1,22 @@
+package interfaces;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * A ResetableIterator over primitive doubles. The values are returned by
+ * {@link #nextDouble()} without being boxed, {@link #next()} is only an
+ * adapter that boxes them for code that expects an Iterator.
+ * 
+ * @since 18-10-2026
+ * @version 18-10-2026
+ * 
+ * @see ResetableIterator
+ * @see PrimitiveIterator.OfDouble
+ *  
+ * @author stefanboodt
+ *
+ */
+public interface ResetableDoubleIterator extends PrimitiveIterator.OfDouble,
+		ResetableIterator<Double> {
+
+}
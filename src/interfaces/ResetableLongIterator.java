@@ -0,0 +1,22 @@
+package interfaces;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * A ResetableIterator over primitive longs. The values are returned by
+ * {@link #nextLong()} without being boxed, {@link #next()} is only an
+ * adapter that boxes them for code that expects an Iterator.
+ * 
+ * @since 18-10-2026
+ * @version 18-10-2026
+ * 
+ * @see ResetableIterator
+ * @see PrimitiveIterator.OfLong
+ *  
+ * @author stefanboodt
+ *
+ */
+public interface ResetableLongIterator extends PrimitiveIterator.OfLong,
+		ResetableIterator<Long> {
+
+}
@@ -0,0 +1,297 @@
+package numbers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import concurrency.ThreadPool;
+
+/**
+ * The BigPrimeGenerator finds random probable primes with a given
+ * amount of bits, like the primes needed for keys of 1024 to 4096 bits.
+ *
+ * <p>
+ * A search starts at a random odd number and looks at a window of
+ * {@link #WINDOW} odd numbers after it. The window is sieved with the
+ * small primes from the buffer of a {@link BufferedPrimeNumberGenerator},
+ * which removes most composites with a few divisions per prime instead
+ * of a modular exponentiation per candidate. Only the candidates that
+ * are left are tested with {@link BigInteger#isProbablePrime(int)},
+ * which runs rounds of Miller-Rabin followed by a Lucas test.
+ * </p>
+ *
+ * <p>
+ * The searches run on a {@link ThreadPool}. {@link #nextPrime()} lets
+ * every thread search its own window and returns the first prime that
+ * is found, {@link #nextPrimes(int)} searches for several primes at the
+ * same time. The generator keeps track of the amount of primes found
+ * and the time it took, see {@link #getPrimesPerSecond()}.
+ * </p>
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see BufferedPrimeNumberGenerator
+ * @see ThreadPool
+ *
+ * @author stefanboodt
+ *
+ */
+public class BigPrimeGenerator implements Closeable {
+
+	/**
+	 * The smallest amount of bits of a prime. Smaller primes fit in a
+	 * long and are found with a {@link PrimeNumberGenerator}.
+	 */
+	public static final int MIN_BITS = 64;
+
+	/**
+	 * The chance that a composite is returned is below 2^-CERTAINTY.
+	 */
+	public static final int CERTAINTY = 100;
+
+	/**
+	 * The amount of odd numbers in one window.
+	 */
+	static final int WINDOW = 1 << 12;
+
+	/**
+	 * The windows are sieved with the odd primes below this number.
+	 */
+	static final int SIEVE_LIMIT = 1 << 16;
+
+	/**
+	 * The amount of bits of the primes.
+	 */
+	private final int bits;
+
+	/**
+	 * The pool the searches run on.
+	 */
+	private final ThreadPool pool;
+
+	/**
+	 * Remembers whether the pool was created by this generator, and has
+	 * to be closed by it.
+	 */
+	private final boolean ownPool;
+
+	/**
+	 * The source of the random starting points.
+	 */
+	private final Random random;
+
+	/**
+	 * The odd primes used to sieve the windows.
+	 */
+	private final int[] sievePrimes;
+
+	/**
+	 * The amount of primes found.
+	 */
+	private final AtomicLong found;
+
+	/**
+	 * The time spent finding them, in nanoseconds.
+	 */
+	private final AtomicLong time;
+
+	/**
+	 * Creates a BigPrimeGenerator with its own pool that has a thread
+	 * for each processor.
+	 * @param bits The amount of bits of the primes.
+	 */
+	public BigPrimeGenerator(int bits) {
+		this(bits, new ThreadPool(Runtime.getRuntime().availableProcessors()),
+				true);
+	}
+
+	/**
+	 * Creates a BigPrimeGenerator that searches on the given pool.
+	 * @param bits The amount of bits of the primes.
+	 * @param pool The pool the searches run on.
+	 */
+	public BigPrimeGenerator(int bits, ThreadPool pool) {
+		this(bits, pool, false);
+	}
+
+	/**
+	 * Creates a BigPrimeGenerator.
+	 * @param bits The amount of bits of the primes.
+	 * @param pool The pool the searches run on.
+	 * @param ownPool Whether the generator closes the pool.
+	 */
+	private BigPrimeGenerator(int bits, ThreadPool pool, boolean ownPool) {
+		if (bits < MIN_BITS) {
+			throw new IllegalArgumentException("A prime should have at least "
+					+ MIN_BITS + " bits: " + bits);
+		}
+		this.bits = bits;
+		this.pool = pool;
+		this.ownPool = ownPool;
+		random = new SecureRandom();
+		int[] primes = new BufferedPrimeNumberGenerator().primes(SIEVE_LIMIT);
+		// The first prime is 2, the candidates are odd already.
+		sievePrimes = new int[primes.length - 1];
+		System.arraycopy(primes, 1, sievePrimes, 0, sievePrimes.length);
+		found = new AtomicLong();
+		time = new AtomicLong();
+	}
+
+	/**
+	 * Gets the amount of bits of the primes.
+	 * @return The bit length of the primes that are generated.
+	 */
+	public int getBits() {
+		return bits;
+	}
+
+	/**
+	 * Finds a random probable prime. Every thread of the pool searches
+	 * its own window, the first prime found is returned and the other
+	 * searches are stopped.
+	 * @return A probable prime with {@link #getBits()} bits.
+	 * @throws InterruptedException If the thread is interrupted while
+	 * waiting for the prime.
+	 */
+	public BigInteger nextPrime() throws InterruptedException {
+		long begin = System.nanoTime();
+		List<Callable<BigInteger>> searches =
+				new ArrayList<Callable<BigInteger>>();
+		for (int i = 0; i < pool.getCorePoolSize(); i++) {
+			searches.add(new Search());
+		}
+		BigInteger prime;
+		try {
+			prime = pool.invokeAny(searches);
+		}
+		catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+		found.incrementAndGet();
+		time.addAndGet(System.nanoTime() - begin);
+		return prime;
+	}
+
+	/**
+	 * Finds several random probable primes at the same time.
+	 * @param amount The amount of primes to find.
+	 * @return The probable primes with {@link #getBits()} bits.
+	 * @throws InterruptedException If the thread is interrupted while
+	 * waiting for the primes.
+	 */
+	public List<BigInteger> nextPrimes(int amount)
+			throws InterruptedException {
+		long begin = System.nanoTime();
+		List<Future<BigInteger>> futures = new ArrayList<Future<BigInteger>>();
+		for (int i = 0; i < amount; i++) {
+			futures.add(pool.submit(new Search()));
+		}
+		List<BigInteger> primes = new ArrayList<BigInteger>(amount);
+		try {
+			for (Future<BigInteger> future : futures) {
+				primes.add(future.get());
+			}
+		}
+		catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+		finally {
+			for (Future<BigInteger> future : futures) {
+				future.cancel(true);
+			}
+		}
+		found.addAndGet(amount);
+		time.addAndGet(System.nanoTime() - begin);
+		return primes;
+	}
+
+	/**
+	 * Gets the amount of primes found per second, measured over all
+	 * calls of {@link #nextPrime()} and {@link #nextPrimes(int)}.
+	 * @return The primes per second, or 0 if nothing was found yet.
+	 */
+	public double getPrimesPerSecond() {
+		long nanos = time.get();
+		return nanos == 0 ? 0 : found.get() * 1e9 / nanos;
+	}
+
+	/**
+	 * Closes the pool if it was created by this generator.
+	 * @throws IOException If closing the pool fails.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (ownPool) {
+			pool.close();
+		}
+	}
+
+	/**
+	 * Marks the odd numbers in the window that have a small factor.
+	 * Index i of the window represents the number start + 2 * i.
+	 * @param start The odd number the window starts with, larger than
+	 * {@link #SIEVE_LIMIT}.
+	 * @param composite The window to mark.
+	 */
+	void sieve(BigInteger start, boolean[] composite) {
+		for (int i = 0; i < composite.length; i++) {
+			composite[i] = false;
+		}
+		for (int p : sievePrimes) {
+			int r = start.mod(BigInteger.valueOf(p)).intValue();
+			// start + 2 * i is a multiple of p for i = -r / 2 modulo p.
+			int first = (int) ((long) (p - r) % p * ((p + 1) / 2) % p);
+			for (int i = first; i < composite.length; i += p) {
+				composite[i] = true;
+			}
+		}
+	}
+
+	/**
+	 * A search for one prime, that sieves random windows and tests the
+	 * candidates that are left until a prime is found or the thread is
+	 * interrupted.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see Callable
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	private final class Search implements Callable<BigInteger> {
+
+		@Override
+		public BigInteger call() throws InterruptedException {
+			boolean[] composite = new boolean[WINDOW];
+			while (true) {
+				BigInteger start = new BigInteger(bits, random)
+						.setBit(bits - 1).setBit(0);
+				sieve(start, composite);
+				for (int i = 0; i < WINDOW; i++) {
+					if (Thread.currentThread().isInterrupted()) {
+						throw new InterruptedException();
+					}
+					if (!composite[i]) {
+						BigInteger candidate = start.add(
+								BigInteger.valueOf(2L * i));
+						if (candidate.bitLength() == bits
+								&& candidate.isProbablePrime(CERTAINTY)) {
+							return candidate;
+						}
+					}
+				}
+			}
+		}
+	}
+}
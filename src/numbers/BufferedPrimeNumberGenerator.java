@@ -1,17 +1,54 @@
 package numbers;
 
 import java.io.*;
-import java.util.*;
-
-import datastructures.DefaultComparator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * The BufferedPrimeNumberGenerator is a PrimeNumberGenerator that uses
  * buffers to keep track of previous calculated prime numbers and uses
  * these results to fasten the calculation time of the prime numbers.
  * 
+ * <p>
+ * The buffer is a {@link PrimeBitmap} that knows all prime numbers
+ * below its limit, using one byte for every 30 numbers. Checking a
+ * number below the limit is a single bit test. The buffer grows when
+ * prime numbers just above the limit are found.
+ * </p>
+ * 
+ * <p>
+ * The buffer is saved in a binary {@link PrimeStore} that is memory
+ * mapped when it is first needed, so creating a generator doesn't read
+ * anything and the first query doesn't depend on the size of the
+ * buffer. The buffer is read in pages of {@link PrimeBitmap#PAGE_SIZE}
+ * bytes, a page is only read when a query uses it. The old text file
+ * is imported the first time when there is no store yet. By default a
+ * save only appends the primes found since the last save to a
+ * journal, see {@link PersistenceMode}.
+ * </p>
+ * 
+ * <p>
+ * When the {@link PrimalityTest#MILLER_RABIN} test is selected the
+ * buffer is not needed to check a number, so it is skipped.
+ * </p>
+ * 
+ * <p>
+ * The buffer is shared by all generators and can be used from many
+ * threads. A query reads the current buffer without locking. The
+ * buffer itself is never changed: a grown copy replaces it atomically,
+ * so a query always sees a complete buffer. Only growing the buffer
+ * takes a lock, so two threads don't sieve the same numbers.
+ * </p>
+ * 
+ * <p>
+ * The buffer also answers queries like the n-th prime or the amount of
+ * primes up to a number without walking through all primes, see
+ * {@link #nthPrime(long)}, {@link #primeCount(long)},
+ * {@link #nextPrime(long)} and {@link #prevPrime(long)}.
+ * </p>
+ * 
  * @since 19-8-2014
- * @version 20-8-2014
+ * @version 18-10-2026
  * 
  * @see PrimeNumberGenerator
  * 
@@ -21,14 +58,49 @@ import datastructures.DefaultComparator;
 public class BufferedPrimeNumberGenerator extends PrimeNumberGenerator {
 
 	/**
-	 * The buffering list.
+	 * The limit the buffer gets when it is first created. This many
+	 * numbers are sieved in a few milliseconds.
 	 */
-	private static List<Long> primeNumbers;
+	private static final long INITIAL_LIMIT =
+			(long) PrimeBitmap.WHEEL * SegmentedSieve.SEGMENT_SIZE;
+
+	/**
+	 * The buffer doesn't grow beyond this limit by itself, which takes
+	 * about 9 MB.
+	 */
+	private static final long MAX_LIMIT = 1L << 28;
+
+	/**
+	 * The text file the primes were stored in before the binary store.
+	 */
+	private static final File TEXT_FILE = new File("files/primenumbers.txt");
 	
 	/**
-	 * Keeps track of a change in the list.
+	 * The store the buffer is saved to.
 	 */
-	private boolean changed;
+	private static final PrimeStore STORE =
+			new PrimeStore(new File("files/primenumbers.bin"));
+
+	/**
+	 * The buffer of prime numbers, shared by all generators.
+	 */
+	private static final AtomicReference<PrimeBitmap> PRIME_NUMBERS =
+			new AtomicReference<PrimeBitmap>();
+	
+	/**
+	 * The lock held while the buffer is set up or grows.
+	 */
+	private static final Object GROW_LOCK = new Object();
+	
+	/**
+	 * Keeps track of a change in the buffer.
+	 */
+	private volatile boolean changed;
+	
+	/**
+	 * The way {@link #save()} writes the buffer to the store.
+	 */
+	private PersistenceMode persistenceMode;
 	
 	/**
 	 * Creates a new BufferedPrimeNumberGenerator.
@@ -54,88 +126,289 @@ public class BufferedPrimeNumberGenerator extends PrimeNumberGenerator {
 	 */
 	public BufferedPrimeNumberGenerator(int startingPoint, long steps) {
 		super(startingPoint, steps);
-		setUp();
 		changed = false;
+		persistenceMode = PersistenceMode.JOURNAL;
 	}
 	
 	/**
-	 * Sets up the buffer.
+	 * Returns the buffer, and sets it up when it is first needed. The
+	 * buffer is mapped from the store, or imported from the text file
+	 * when there is no store yet. Mapping the store doesn't read it, the
+	 * pages of the buffer are read when a query uses them.
+	 * @return The current buffer.
 	 */
-	private final synchronized void setUp() {
-		if (primeNumbers == null) {
-			primeNumbers = new ArrayList<Long>();
+	private static PrimeBitmap buffer() {
+		PrimeBitmap current = PRIME_NUMBERS.get();
+		if (current != null) {
+			return current;
+		}
+		synchronized (GROW_LOCK) {
+			if (PRIME_NUMBERS.get() != null) {
+				return PRIME_NUMBERS.get();
+			}
+			PrimeBitmap buffer = null;
 			try {
-				Scanner sc = new Scanner(new File("files/primenumbers.txt"));
-				while (sc.hasNext()) {
-					primeNumbers.add(Long.parseLong(sc.next()));
+				if (STORE.exists()) {
+					buffer = STORE.load();
+				}
+				else if (TEXT_FILE.exists()) {
+					buffer = PrimeStore.importText(TEXT_FILE, INITIAL_LIMIT);
+					STORE.save(buffer);
 				}
-				sc.close();
 			}
-			catch (FileNotFoundException e) {
+			catch (IOException e) {
 				e.printStackTrace();
 			}
+			if (buffer == null) {
+				buffer = new PrimeBitmap();
+			}
+			PRIME_NUMBERS.set(buffer.extend(INITIAL_LIMIT));
+			return PRIME_NUMBERS.get();
 		}
-		sortNumbers();
 	}
 	
 	/**
 	 * {@inheritDoc}
-	 * This uses the stored list of primeNumbers first. This saves
-	 * a lot of time when used frequently but when the list is
-	 * corrupted or this version is seldom used it is quicker to use
-	 * the superclass variant. The list is also considered corrupted
-	 * when there is a prime number missing in the sequence.
+	 * This uses the buffer of prime numbers first. Numbers below the
+	 * limit of the buffer are looked up directly, larger numbers are
+	 * divided by the buffered primes. Only when the buffer doesn't
+	 * reach the square root of the number the superclass variant is
+	 * used. When the Miller-Rabin test is selected the buffer is not
+	 * used at all.
 	 * @see PrimeNumberGenerator#isPrime(long)
 	 */
 	@Override
 	public boolean isPrime(long number) {
+		if (getPrimalityTest() == PrimalityTest.MILLER_RABIN) {
+			return super.isPrime(number);
+		}
 		if (number < FIRST_PRIME) {
 			return false;
 		}
-		if (primeNumbers.contains(number)) {
-			return true;
-		}
-		double sqrt = Math.sqrt(number);
-		long num = FIRST_PRIME;
-		long largestNum = num;
-		for (int i = 0; i < primeNumbers.size(); i++) {
-			num = primeNumbers.get(i);
-			if (num <= sqrt) {
-				if (number % num == 0) {
-					return false;
-				}
-				if (num > largestNum) {
-					largestNum = num;
-				}
-			}
+		PrimeBitmap buffer = buffer();
+		if (number < buffer.limit()) {
+			return buffer.isPrime(number);
+		}
+		long sqrt = (long) Math.sqrt(number);
+		boolean answer;
+		if (sqrt < buffer.limit()) {
+			answer = !buffer.hasFactor(number, sqrt);
+		}
+		else {
+			answer = super.isPrime(number);
 		}
-		if (sqrt > largestNum) {
-			boolean answer = super.isPrime(number);
-			if (answer) {
-				enlist(number);
+		if (answer) {
+			enlist(number);
+		}
+		return answer;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * <p>
+	 * The numbers below the limit of the buffer are looked up in the
+	 * buffer directly, only the other numbers are screened.
+	 * </p>
+	 */
+	@Override
+	protected void classify(long[] in, boolean[] out, int from, int to) {
+		if (getPrimalityTest() == PrimalityTest.MILLER_RABIN) {
+			super.classify(in, out, from, to);
+			return;
+		}
+		PrimeBitmap buffer = buffer();
+		long limit = buffer.limit();
+		int[] indices = new int[to - from];
+		int count = 0;
+		for (int i = from; i < to; i++) {
+			long number = in[i];
+			if (number < FIRST_PRIME) {
+				out[i] = false;
+			}
+			else if (number < limit) {
+				out[i] = buffer.isPrime(number);
 			}
-			return answer;
+			else {
+				indices[count++] = i;
+			}
+		}
+		int left = SmallPrimeFilter.screen(in, out, indices, count);
+		for (int k = 0; k < left; k++) {
+			out[indices[k]] = isPrime(in[indices[k]]);
 		}
-		enlist(number);
-		return true;
 	}
 	
 	/**
 	 * Enlists the number permanently as a prime number.
 	 * This method should be used only when the {@link #isPrime(long)}
-	 * states the number to be a prime number.
+	 * states the number to be a prime number. The buffer only stores
+	 * all primes up to a limit, so it grows to include the number when
+	 * the number is not too far above the current limit. Numbers far
+	 * above the limit, or above the maximum size of the buffer, are not
+	 * stored. The grown buffer replaces the old one atomically.
 	 * @param number The number to enlist.
 	 */
 	protected final void enlist(long number) {
-		primeNumbers.add(number);
-		changed = true;
+		long limit = buffer().limit();
+		if (number < limit || number >= MAX_LIMIT
+				|| number >= 2 * Math.max(limit, INITIAL_LIMIT)) {
+			return;
+		}
+		synchronized (GROW_LOCK) {
+			PrimeBitmap buffer = buffer();
+			limit = buffer.limit();
+			if (number >= limit) {
+				long grown = Math.max(number + 1, Math.max(2 * limit,
+						INITIAL_LIMIT));
+				PRIME_NUMBERS.set(buffer.extend(Math.min(grown, MAX_LIMIT)));
+				changed = true;
+			}
+		}
+	}
+	
+	/**
+	 * Finds the n-th prime number, where the first prime is 2. When the
+	 * prime is in the buffer it is found with the rank index of the
+	 * buffer, which only reads the pages up to the prime. Otherwise the
+	 * primes up to an estimate of the n-th prime are counted with
+	 * {@link PrimeCounting}, and the few primes between the estimate and
+	 * the n-th prime are sieved.
+	 * @param n The index of the prime, at least 1.
+	 * @return The n-th prime number.
+	 * @throws IllegalArgumentException If n is smaller than 1.
+	 */
+	public long nthPrime(long n) {
+		if (n < 1) {
+			throw new IllegalArgumentException("There is no prime number "
+					+ n);
+		}
+		PrimeBitmap buffer = buffer();
+		long limit = buffer.limit();
+		// There are less than 1.25506 x / ln x primes up to x, so for a
+		// larger n the pages of the buffer don't have to be read.
+		if (n < 1.25506 * limit / Math.log(limit)) {
+			long prime = buffer.select(n);
+			if (prime != -1) {
+				return prime;
+			}
+		}
+		double log = Math.log(n);
+		double logLog = Math.log(log);
+		long estimate = (long) (n * (log + logLog - 1
+				+ (logLog - 2) / log));
+		long counted = primeCount(estimate);
+		if (counted < n) {
+			SegmentedSieve sieve = new SegmentedSieve(estimate + 1);
+			long prime = 0;
+			for (long i = counted; i < n; i++) {
+				prime = sieve.nextPrime();
+			}
+			return prime;
+		}
+		// The largest prime up to the estimate is prime number counted.
+		long skip = counted - n;
+		long high = estimate + 1;
+		while (true) {
+			long low = Math.max(0, high - PrimeRange.CHUNK);
+			long[] primes = PrimeRange.primes(low, high);
+			if (skip < primes.length) {
+				return primes[primes.length - 1 - (int) skip];
+			}
+			skip -= primes.length;
+			high = low;
+		}
+	}
+	
+	/**
+	 * Counts the prime numbers up to and including x. Below the limit
+	 * of the buffer the rank index of the buffer is used, which only
+	 * reads the pages up to x. Above the limit the primes are counted
+	 * with {@link PrimeCounting} in about x^(3/4) steps.
+	 * @param x The number to count to.
+	 * @return The amount of primes that are at most x.
+	 */
+	public long primeCount(long x) {
+		if (x < FIRST_PRIME) {
+			return 0;
+		}
+		PrimeBitmap buffer = buffer();
+		if (x < buffer.limit()) {
+			return buffer.countUpTo(x);
+		}
+		return PrimeCounting.count(x);
+	}
+	
+	/**
+	 * Finds the first prime number above x.
+	 * @param x The number to start from.
+	 * @return The smallest prime that is larger than x.
+	 * @throws NoSuchElementException If there is no such prime that fits
+	 * in a long.
+	 */
+	public long nextPrime(long x) {
+		if (x < FIRST_PRIME) {
+			return FIRST_PRIME;
+		}
+		PrimeBitmap buffer = buffer();
+		if (x < buffer.limit() - 1) {
+			long prime = buffer.nextPrime(x + 1);
+			if (prime != -1) {
+				return prime;
+			}
+		}
+		long candidate = x % 2 == 0 ? x + 1 : x + 2;
+		while (candidate > 0) {
+			if (MillerRabin.isPrime(candidate)) {
+				return candidate;
+			}
+			candidate += 2;
+		}
+		throw new NoSuchElementException("There is no prime above " + x
+				+ " that fits in a long");
 	}
 	
 	/**
-	 * Sorts the number using the sort method.
+	 * Finds the last prime number below x.
+	 * @param x The number to start from.
+	 * @return The largest prime that is smaller than x.
+	 * @throws NoSuchElementException If x is at most 2.
+	 */
+	public long prevPrime(long x) {
+		if (x <= FIRST_PRIME) {
+			throw new NoSuchElementException("There is no prime below " + x);
+		}
+		PrimeBitmap buffer = buffer();
+		if (x - 1 < buffer.limit()) {
+			return buffer.previousPrime(x - 1);
+		}
+		long candidate = x % 2 == 0 ? x - 1 : x - 2;
+		while (!MillerRabin.isPrime(candidate)) {
+			candidate -= 2;
+		}
+		return candidate;
+	}
+	
+	/**
+	 * Lists the buffered prime numbers up to the given maximum. When the
+	 * buffer doesn't reach the maximum the missing primes are sieved,
+	 * but the buffer is not changed.
+	 * @param max The largest number to list.
+	 * @return The primes up to max in increasing order.
+	 */
+	int[] primes(int max) {
+		PrimeBitmap buffer = buffer();
+		if (max >= buffer.limit()) {
+			buffer = buffer.extend(max + 1L);
+		}
+		return buffer.primes(max);
+	}
+	
+	/**
+	 * Sorts the prime numbers. The buffer always keeps the prime numbers
+	 * in order, so there is nothing left to do.
 	 */
 	protected void sortNumbers() {
-		primeNumbers.sort(new DefaultComparator<Long>());
 	}
 	
 	/**
@@ -151,8 +424,8 @@ public class BufferedPrimeNumberGenerator extends PrimeNumberGenerator {
 	 */
 	@Override
 	public void reset() {
-		if (!primeNumbers.isEmpty()) {
-			primeNumbers = new ArrayList<Long>();
+		if (buffer().limit() > 0) {
+			PRIME_NUMBERS.set(new PrimeBitmap());
 			try {
 				save();
 			}
@@ -164,29 +437,55 @@ public class BufferedPrimeNumberGenerator extends PrimeNumberGenerator {
 	}
 	
 	/**
-	 * Saves the list of prime numbers to the file, so you can start using
-	 * that as given next time.
+	 * Gets the way the buffer is saved.
+	 * @return The selected persistence mode.
+	 */
+	public PersistenceMode getPersistenceMode() {
+		return persistenceMode;
+	}
+	
+	/**
+	 * Selects the way {@link #save()} writes the buffer to the store.
+	 * @param mode The persistence mode to use.
+	 */
+	public void setPersistenceMode(PersistenceMode mode) {
+		if (mode == null) {
+			throw new IllegalArgumentException("The mode can't be null");
+		}
+		persistenceMode = mode;
+	}
+	
+	/**
+	 * Saves the buffer of prime numbers to the store, so you can start
+	 * using that as given next time. Generators that save at the same
+	 * time take turns, and each saves the newest buffer. In the
+	 * {@link PersistenceMode#JOURNAL} mode only the primes found since
+	 * the last save are written. In the {@link PersistenceMode#REWRITE}
+	 * mode a journal left by an earlier save is merged into the file,
+	 * also when this generator found no new primes.
 	 * @throws FileNotFoundException If the file doesn't exist and cannot
 	 * be created.
+	 * @throws UncheckedIOException If the file can't be written.
 	 */
-	public synchronized void save() throws FileNotFoundException {
-		if (changed) {
-			PrintWriter out = new PrintWriter(new File("files/primenumbers.txt"));
-			String line = "";
-			sortNumbers();
-			for (int i = 1; i <= primeNumbers.size(); i++) {
-				line += primeNumbers.get(i - 1) + " ";
-				if (i == primeNumbers.size()) {
-					out.print(line);
-					out.flush();
+	public void save() throws FileNotFoundException {
+		if (changed || persistenceMode == PersistenceMode.REWRITE
+				&& STORE.hasJournal()) {
+			synchronized (STORE) {
+				try {
+					if (persistenceMode == PersistenceMode.JOURNAL) {
+						STORE.append(buffer());
+					}
+					else {
+						STORE.save(buffer());
+					}
+				}
+				catch (FileNotFoundException e) {
+					throw e;
 				}
-				else if (i % 15 == 0) {
-					out.println(line);
-					out.flush();
-					line = "";
+				catch (IOException e) {
+					throw new UncheckedIOException(e);
 				}
 			}
-			out.close();
 			changed = false;
 		}
 	}
@@ -0,0 +1,357 @@
+package numbers;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The Factorizer splits numbers into their prime factors. The small
+ * factors are found by trial division with the primes in the buffer of
+ * a {@link BufferedPrimeNumberGenerator}. What is left is either prime,
+ * which is checked with the {@link MillerRabin} test, or the product of
+ * larger primes, which are found with the rho method of Pollard in the
+ * variant of Brent.
+ *
+ * <p>
+ * Trial division doesn't divide: for every odd prime p the inverse of
+ * p modulo 2^64 is known, and n is a multiple of p exactly when n times
+ * that inverse is at most (2^64 - 1) / p. This takes a multiplication
+ * and a comparison instead of a division, and when it holds the product
+ * is n / p.
+ * </p>
+ *
+ * <p>
+ * Many numbers can be factored at once with {@link #factorAll(long[])},
+ * which splits the numbers in groups that are factored in parallel on a
+ * {@link ForkJoinPool}.
+ * </p>
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see BufferedPrimeNumberGenerator
+ * @see MillerRabin
+ * @see Montgomery
+ *
+ * @author stefanboodt
+ *
+ */
+public final class Factorizer {
+
+	/**
+	 * The primes up to this number are used for trial division.
+	 */
+	static final int TRIAL_LIMIT = 1 << 12;
+
+	/**
+	 * The amount of numbers factored by one task of
+	 * {@link #factorAll(long[])}.
+	 */
+	private static final int BATCH = 1 << 12;
+
+	/**
+	 * The amount of steps of the rho method between two greatest common
+	 * divisor calculations.
+	 */
+	private static final int GCD_STEPS = 128;
+
+	/**
+	 * A number has at most this many prime factors.
+	 */
+	private static final int MAX_FACTORS = 63;
+
+	/**
+	 * The odd primes used for trial division.
+	 */
+	private final long[] primes;
+
+	/**
+	 * The inverse of each prime modulo 2^64.
+	 */
+	private final long[] inverses;
+
+	/**
+	 * The largest quotient (2^64 - 1) / p for each prime p.
+	 */
+	private final long[] bounds;
+
+	/**
+	 * Creates a Factorizer that uses the buffer of a new
+	 * {@link BufferedPrimeNumberGenerator}.
+	 */
+	public Factorizer() {
+		this(new BufferedPrimeNumberGenerator());
+	}
+
+	/**
+	 * Creates a Factorizer that uses the buffer of the generator for
+	 * trial division.
+	 * @param generator The generator with the buffered primes.
+	 */
+	public Factorizer(BufferedPrimeNumberGenerator generator) {
+		int[] buffered = generator.primes(TRIAL_LIMIT);
+		// The first buffered prime is 2, which is removed with a shift.
+		primes = new long[buffered.length - 1];
+		inverses = new long[primes.length];
+		bounds = new long[primes.length];
+		for (int i = 0; i < primes.length; i++) {
+			long p = buffered[i + 1];
+			long inverse = p;
+			for (int j = 0; j < 5; j++) {
+				inverse *= 2 - p * inverse;
+			}
+			primes[i] = p;
+			inverses[i] = inverse;
+			bounds[i] = Long.divideUnsigned(-1L, p);
+		}
+	}
+
+	/**
+	 * Factors the number into primes.
+	 * @param number The number to factor, at least 1.
+	 * @return The prime factors of the number in increasing order, each
+	 * prime as often as it divides the number. The factors of 1 are an
+	 * empty array.
+	 * @throws IllegalArgumentException If the number is smaller than 1.
+	 */
+	public long[] factor(long number) {
+		if (number < 1) {
+			throw new IllegalArgumentException("Only positive numbers can"
+					+ " be factored: " + number);
+		}
+		long[] factors = new long[MAX_FACTORS];
+		int count = 0;
+		int twos = Long.numberOfTrailingZeros(number);
+		for (; count < twos; count++) {
+			factors[count] = 2;
+		}
+		long n = number >>> twos;
+		int i = 0;
+		for (; i < primes.length; i++) {
+			long p = primes[i];
+			if (p * p > n) {
+				break;
+			}
+			long quotient = n * inverses[i];
+			while (Long.compareUnsigned(quotient, bounds[i]) <= 0) {
+				factors[count++] = p;
+				n = quotient;
+				quotient = n * inverses[i];
+			}
+		}
+		if (n == 1) {
+			return Arrays.copyOf(factors, count);
+		}
+		if (i < primes.length) {
+			// No prime up to the square root of n divides n.
+			factors[count++] = n;
+			return Arrays.copyOf(factors, count);
+		}
+		int large = count;
+		count = split(n, factors, count);
+		Arrays.sort(factors, large, count);
+		return Arrays.copyOf(factors, count);
+	}
+
+	/**
+	 * Factors all numbers in parallel on the common
+	 * {@link ForkJoinPool}.
+	 * @param numbers The numbers to factor, each at least 1.
+	 * @return The factors of numbers[i] at index i, as returned by
+	 * {@link #factor(long)}.
+	 * @throws IllegalArgumentException If a number is smaller than 1.
+	 */
+	public long[][] factorAll(long[] numbers) {
+		return factorAll(numbers, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Factors all numbers in parallel on the given pool.
+	 * @param numbers The numbers to factor, each at least 1.
+	 * @param pool The pool that factors the numbers.
+	 * @return The factors of numbers[i] at index i, as returned by
+	 * {@link #factor(long)}.
+	 * @throws IllegalArgumentException If a number is smaller than 1.
+	 */
+	public long[][] factorAll(long[] numbers, ForkJoinPool pool) {
+		long[][] factors = new long[numbers.length][];
+		if (numbers.length > 0) {
+			pool.invoke(new FactorTask(numbers, factors, 0, numbers.length));
+		}
+		return factors;
+	}
+
+	/**
+	 * Adds the prime factors of n to the factors.
+	 * @param n The odd number to factor, without factors up to
+	 * {@link #TRIAL_LIMIT}.
+	 * @param factors The factors found so far.
+	 * @param count The amount of factors found so far.
+	 * @return The amount of factors found.
+	 */
+	private static int split(long n, long[] factors, int count) {
+		if (MillerRabin.isOddPrime(n)) {
+			factors[count++] = n;
+			return count;
+		}
+		long divisor = rho(n);
+		count = split(divisor, factors, count);
+		return split(n / divisor, factors, count);
+	}
+
+	/**
+	 * Finds a non trivial divisor of a composite number with the rho
+	 * method of Pollard in the variant of Brent. The sequence
+	 * x -> x^2 + c is calculated in Montgomery form, and the differences
+	 * are multiplied so only one greatest common divisor is needed per
+	 * {@link #GCD_STEPS} steps.
+	 * @param n The odd composite number.
+	 * @return A divisor of n between 1 and n.
+	 */
+	static long rho(long n) {
+		Montgomery m = new Montgomery(n);
+		for (long c = m.one(); ; c = add(c, m.one(), n)) {
+			long y = add(m.one(), m.one(), n);
+			long x = y;
+			long saved = y;
+			long product = m.one();
+			long divisor = 1;
+			for (int r = 1; divisor == 1; r *= 2) {
+				x = y;
+				for (int i = 0; i < r; i++) {
+					y = add(m.multiply(y, y), c, n);
+				}
+				for (int k = 0; k < r && divisor == 1; k += GCD_STEPS) {
+					saved = y;
+					int steps = Math.min(GCD_STEPS, r - k);
+					for (int i = 0; i < steps; i++) {
+						y = add(m.multiply(y, y), c, n);
+						product = m.multiply(product, x > y ? x - y : y - x);
+					}
+					divisor = gcd(product, n);
+				}
+			}
+			if (divisor == n) {
+				// The product became 0, so find the step that did it.
+				do {
+					saved = add(m.multiply(saved, saved), c, n);
+					divisor = gcd(x > saved ? x - saved : saved - x, n);
+				} while (divisor == 1);
+			}
+			if (divisor != n) {
+				return divisor;
+			}
+		}
+	}
+
+	/**
+	 * Adds two numbers modulo n.
+	 * @param a The first number, smaller than n.
+	 * @param b The second number, smaller than n.
+	 * @param n The modulus.
+	 * @return a + b modulo n.
+	 */
+	private static long add(long a, long b, long n) {
+		long sum = a + b;
+		// A negative sum overflowed, subtracting n corrects it.
+		if (sum < 0 || sum >= n) {
+			sum -= n;
+		}
+		return sum;
+	}
+
+	/**
+	 * Calculates the greatest common divisor with the binary algorithm.
+	 * @param a The first non negative number.
+	 * @param b The second non negative number.
+	 * @return The greatest common divisor of a and b.
+	 */
+	static long gcd(long a, long b) {
+		if (a == 0) {
+			return b;
+		}
+		if (b == 0) {
+			return a;
+		}
+		int shift = Long.numberOfTrailingZeros(a | b);
+		a >>>= Long.numberOfTrailingZeros(a);
+		while (b != 0) {
+			b >>>= Long.numberOfTrailingZeros(b);
+			if (a > b) {
+				long t = a;
+				a = b;
+				b = t;
+			}
+			b -= a;
+		}
+		return a << shift;
+	}
+
+	/**
+	 * Factors a group of numbers, by splitting it in halves until at
+	 * most {@link #BATCH} numbers are left.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see RecursiveAction
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	private final class FactorTask extends RecursiveAction {
+
+		/**
+		 * Serial number.
+		 */
+		private static final long serialVersionUID = 4409226163716043383L;
+
+		/**
+		 * All numbers to factor.
+		 */
+		private final long[] numbers;
+
+		/**
+		 * The factors of each number, filled in by the tasks.
+		 */
+		private final long[][] factors;
+
+		/**
+		 * The first number of this task.
+		 */
+		private final int first;
+
+		/**
+		 * The first number after this task.
+		 */
+		private final int last;
+
+		/**
+		 * Creates a task for the numbers from first up to last.
+		 * @param numbers All numbers to factor.
+		 * @param factors The factors of each number.
+		 * @param first The first number of this task.
+		 * @param last The first number after this task.
+		 */
+		FactorTask(long[] numbers, long[][] factors, int first, int last) {
+			this.numbers = numbers;
+			this.factors = factors;
+			this.first = first;
+			this.last = last;
+		}
+
+		@Override
+		protected void compute() {
+			if (last - first <= BATCH) {
+				for (int i = first; i < last; i++) {
+					factors[i] = factor(numbers[i]);
+				}
+			}
+			else {
+				int middle = (first + last) >>> 1;
+				invokeAll(new FactorTask(numbers, factors, first, middle),
+						new FactorTask(numbers, factors, middle, last));
+			}
+		}
+	}
+}
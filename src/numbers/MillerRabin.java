@@ -0,0 +1,205 @@
+package numbers;
+
+/**
+ * A deterministic Miller-Rabin primality test for all longs. For the
+ * range of a long a fixed set of witnesses is known that leaves no
+ * composite undetected, so the answer is always exact. The small
+ * factors are removed by trial division first.
+ *
+ * <p>
+ * The test uses about a dozen modular multiplications per witness
+ * where the trial division of {@link PrimeNumberGenerator#isPrime(long)}
+ * needs up to the square root of the number in divisions.
+ * </p>
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see PrimalityTest#MILLER_RABIN
+ * @see Montgomery
+ *
+ * @author stefanboodt
+ *
+ */
+public final class MillerRabin {
+
+	/**
+	 * The primes used for trial division before the actual test.
+	 */
+	private static final int[] SMALL_PRIMES = {2, 3, 5, 7, 11, 13, 17,
+		19, 23, 29, 31, 37, 41, 43, 47, 53, 59, 61, 67, 71, 73, 79, 83,
+		89, 97};
+
+	/**
+	 * Numbers below this bound without a small factor are prime.
+	 */
+	private static final long SMALL_BOUND = 101 * 101;
+
+	/**
+	 * The witnesses that are enough for numbers below
+	 * {@link #SMALL_WITNESS_BOUND}.
+	 */
+	private static final long[] SMALL_WITNESSES = {2, 7, 61};
+
+	/**
+	 * The bound for {@link #SMALL_WITNESSES}.
+	 */
+	private static final long SMALL_WITNESS_BOUND = 4759123141L;
+
+	/**
+	 * The witnesses that are enough for numbers below
+	 * {@link #MEDIUM_WITNESS_BOUND}.
+	 */
+	private static final long[] MEDIUM_WITNESSES = {2, 13, 23, 1662803};
+
+	/**
+	 * The bound for {@link #MEDIUM_WITNESSES}, just above 2^40.
+	 */
+	private static final long MEDIUM_WITNESS_BOUND = 1122004669633L;
+
+	/**
+	 * The witnesses that are enough for all longs.
+	 */
+	private static final long[] WITNESSES = {2, 325, 9375, 28178, 450775,
+		9780504, 1795265022};
+
+	/**
+	 * The largest number of which the square fits in a long. Below
+	 * this the multiplication can be done directly.
+	 */
+	private static final long DIRECT_BOUND = 3037000499L;
+
+	/**
+	 * Utility class, should not be instantiated.
+	 */
+	private MillerRabin() {
+	}
+
+	/**
+	 * Checks if the given number is a prime number.
+	 * @param number The number you want to check.
+	 * @return true iff the number is prime.
+	 */
+	public static boolean isPrime(long number) {
+		if (number < PrimeNumberGenerator.FIRST_PRIME) {
+			return false;
+		}
+		for (int p : SMALL_PRIMES) {
+			if (number % p == 0) {
+				return number == p;
+			}
+		}
+		if (number < SMALL_BOUND) {
+			return true;
+		}
+		return isOddPrime(number);
+	}
+
+	/**
+	 * Checks if the odd number is prime without the trial division, for
+	 * callers that removed the small factors themselves.
+	 * @param number The odd number to check, without prime factors
+	 * below 100, and larger than 100.
+	 * @return true iff the number is prime.
+	 */
+	static boolean isOddPrime(long number) {
+		if (number < SMALL_WITNESS_BOUND) {
+			if (number <= DIRECT_BOUND) {
+				return isStrongProbablePrimeDirect(number, SMALL_WITNESSES);
+			}
+			return isStrongProbablePrime(number, SMALL_WITNESSES);
+		}
+		if (number < MEDIUM_WITNESS_BOUND) {
+			return isStrongProbablePrime(number, MEDIUM_WITNESSES);
+		}
+		return isStrongProbablePrime(number, WITNESSES);
+	}
+
+	/**
+	 * Runs the strong probable prime test for all witnesses using
+	 * Montgomery multiplication.
+	 * @param n The odd number to test.
+	 * @param witnesses The witnesses to use.
+	 * @return true iff n is a strong probable prime to all witnesses.
+	 */
+	static boolean isStrongProbablePrime(long n, long[] witnesses) {
+		long d = n - 1;
+		int s = Long.numberOfTrailingZeros(d);
+		d >>= s;
+		Montgomery m = new Montgomery(n);
+		long one = m.one();
+		long minusOne = n - one;
+		for (long a : witnesses) {
+			a %= n;
+			if (a == 0) {
+				continue;
+			}
+			long x = m.pow(m.toMontgomery(a), d);
+			if (x == one || x == minusOne) {
+				continue;
+			}
+			boolean composite = true;
+			for (int r = 1; r < s && composite; r++) {
+				x = m.multiply(x, x);
+				composite = x != minusOne;
+			}
+			if (composite) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Runs the strong probable prime test for all witnesses with direct
+	 * multiplication. Can only be used for n up to
+	 * {@link #DIRECT_BOUND}.
+	 * @param n The odd number to test.
+	 * @param witnesses The witnesses to use.
+	 * @return true iff n is a strong probable prime to all witnesses.
+	 */
+	private static boolean isStrongProbablePrimeDirect(long n,
+			long[] witnesses) {
+		long d = n - 1;
+		int s = Long.numberOfTrailingZeros(d);
+		d >>= s;
+		for (long a : witnesses) {
+			a %= n;
+			if (a == 0) {
+				continue;
+			}
+			long x = powMod(a, d, n);
+			if (x == 1 || x == n - 1) {
+				continue;
+			}
+			boolean composite = true;
+			for (int r = 1; r < s && composite; r++) {
+				x = x * x % n;
+				composite = x != n - 1;
+			}
+			if (composite) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Calculates base ^ exponent modulo n with direct multiplication.
+	 * @param base The base, smaller than n.
+	 * @param exponent The non negative exponent.
+	 * @param n The modulus, at most {@link #DIRECT_BOUND}.
+	 * @return base ^ exponent mod n.
+	 */
+	private static long powMod(long base, long exponent, long n) {
+		long result = 1;
+		while (exponent > 0) {
+			if ((exponent & 1) == 1) {
+				result = result * base % n;
+			}
+			base = base * base % n;
+			exponent >>= 1;
+		}
+		return result;
+	}
+}
@@ -0,0 +1,165 @@
+package numbers;
+
+/**
+ * Does modular multiplication for an odd modulus below 2^63 with
+ * Montgomery reduction. The products of two numbers below the modulus
+ * can be larger than a long, so they are calculated as 128 bit numbers
+ * and reduced without a division. Numbers have to be converted to the
+ * Montgomery form with {@link #toMontgomery(long)} before they are
+ * multiplied.
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see MillerRabin
+ *
+ * @author stefanboodt
+ *
+ */
+final class Montgomery {
+
+	/**
+	 * The mask for the lowest 32 bits.
+	 */
+	private static final long LOW_MASK = 0xFFFFFFFFL;
+
+	/**
+	 * The odd modulus.
+	 */
+	private final long modulus;
+
+	/**
+	 * The inverse of the modulus modulo 2^64.
+	 */
+	private final long inverse;
+
+	/**
+	 * 2^64 modulo the modulus, which is 1 in Montgomery form.
+	 */
+	private final long one;
+
+	/**
+	 * 2^128 modulo the modulus, used to convert to Montgomery form.
+	 */
+	private final long square;
+
+	/**
+	 * Creates the Montgomery arithmetic for the given modulus.
+	 * @param modulus The odd modulus, between 1 and 2^63.
+	 */
+	Montgomery(long modulus) {
+		if (modulus <= 1 || modulus % 2 == 0) {
+			throw new IllegalArgumentException("The modulus should be odd"
+					+ " and larger than 1: " + modulus);
+		}
+		this.modulus = modulus;
+		long inv = modulus;
+		for (int i = 0; i < 5; i++) {
+			inv *= 2 - modulus * inv;
+		}
+		inverse = inv;
+		one = Long.remainderUnsigned(-modulus, modulus);
+		long r = one;
+		for (int i = 0; i < 64; i++) {
+			r <<= 1;
+			if (r < 0 || r >= modulus) {
+				r -= modulus;
+			}
+		}
+		square = r;
+	}
+
+	/**
+	 * Returns the number 1 in Montgomery form.
+	 * @return The Montgomery form of 1.
+	 */
+	long one() {
+		return one;
+	}
+
+	/**
+	 * Returns the modulus.
+	 * @return The modulus used.
+	 */
+	long modulus() {
+		return modulus;
+	}
+
+	/**
+	 * Converts a number to Montgomery form.
+	 * @param a The number, between 0 and the modulus.
+	 * @return The Montgomery form of a.
+	 */
+	long toMontgomery(long a) {
+		return multiply(a, square);
+	}
+
+	/**
+	 * Converts a number in Montgomery form back to the normal form.
+	 * @param a The number in Montgomery form.
+	 * @return The normal form of a.
+	 */
+	long fromMontgomery(long a) {
+		return reduce(0, a);
+	}
+
+	/**
+	 * Multiplies two numbers in Montgomery form.
+	 * @param a The first number in Montgomery form.
+	 * @param b The second number in Montgomery form.
+	 * @return The product in Montgomery form.
+	 */
+	long multiply(long a, long b) {
+		return reduce(multiplyHigh(a, b), a * b);
+	}
+
+	/**
+	 * Raises a number in Montgomery form to the given power.
+	 * @param base The number in Montgomery form.
+	 * @param exponent The non negative exponent.
+	 * @return base ^ exponent in Montgomery form.
+	 */
+	long pow(long base, long exponent) {
+		long result = one;
+		while (exponent > 0) {
+			if ((exponent & 1) == 1) {
+				result = multiply(result, base);
+			}
+			base = multiply(base, base);
+			exponent >>= 1;
+		}
+		return result;
+	}
+
+	/**
+	 * Divides the 128 bit number by 2^64 modulo the modulus.
+	 * @param high The highest 64 bits, smaller than the modulus.
+	 * @param low The lowest 64 bits.
+	 * @return (high * 2^64 + low) / 2^64 modulo the modulus.
+	 */
+	private long reduce(long high, long low) {
+		long m = low * inverse;
+		long t = high - multiplyHigh(m, modulus);
+		if (t < 0) {
+			t += modulus;
+		}
+		return t;
+	}
+
+	/**
+	 * Calculates the highest 64 bits of the unsigned 128 bit product.
+	 * @param x The first unsigned number.
+	 * @param y The second unsigned number.
+	 * @return The highest 64 bits of x * y.
+	 */
+	static long multiplyHigh(long x, long y) {
+		long x0 = x & LOW_MASK;
+		long x1 = x >>> 32;
+		long y0 = y & LOW_MASK;
+		long y1 = y >>> 32;
+		long w0 = x0 * y0;
+		long t = x1 * y0 + (w0 >>> 32);
+		long w1 = (t & LOW_MASK) + x0 * y1;
+		return x1 * y1 + (t >>> 32) + (w1 >>> 32);
+	}
+}
@@ -0,0 +1,29 @@
+package numbers;
+
+/**
+ * The ways a {@link BufferedPrimeNumberGenerator} can save its buffer.
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see BufferedPrimeNumberGenerator#setPersistenceMode(PersistenceMode)
+ *
+ * @author stefanboodt
+ *
+ */
+public enum PersistenceMode {
+
+	/**
+	 * Writes the whole buffer to the store on every save. This takes
+	 * time in proportion to the size of the buffer.
+	 */
+	REWRITE,
+
+	/**
+	 * Appends only the primes found since the last save to a journal.
+	 * The journal is merged into the store in the background when it
+	 * gets large.
+	 * @see PrimeStore#append(PrimeBitmap)
+	 */
+	JOURNAL
+}
@@ -0,0 +1,29 @@
+package numbers;
+
+/**
+ * The ways a {@link PrimeNumberGenerator} can check if a number is a
+ * prime number.
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see PrimeNumberGenerator#setPrimalityTest(PrimalityTest)
+ *
+ * @author stefanboodt
+ *
+ */
+public enum PrimalityTest {
+
+	/**
+	 * Divides the number by everything up to its square root. This is
+	 * quick for small numbers only.
+	 */
+	TRIAL_DIVISION,
+
+	/**
+	 * Uses the deterministic Miller-Rabin test, which is exact for every
+	 * long and fast for large numbers.
+	 * @see MillerRabin
+	 */
+	MILLER_RABIN
+}
@@ -0,0 +1,545 @@
+package numbers;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A compact table of all prime numbers below a limit. The table uses a
+ * mod 30 wheel: of every 30 numbers only the 8 that are not divisible
+ * by 2, 3 or 5 can be prime, so one byte stores the primality of 30
+ * numbers. Checking if a number below the limit is prime is a single
+ * bit test.
+ *
+ * <p>
+ * The bits are kept in pages of {@link #PAGE_SIZE} bytes. A page can be
+ * part of a memory mapped file of a {@link PrimeStore}, and is only
+ * taken from the file by its {@link PageLoader} when a query first
+ * needs it, so a query for a small number doesn't depend on the size
+ * of the file. A PrimeBitmap is immutable: {@link #extend(long)}
+ * creates a new bitmap that shares the complete pages and copies only
+ * the last one, so a mapped file is never written to and a bitmap can
+ * be read by many threads at the same time without locking.
+ * </p>
+ *
+ * <p>
+ * For counting and selecting primes the bitmap keeps a rank index for
+ * each page: the amount of primes in the page before each block of
+ * {@link #BLOCK} bytes, and in the whole page. The index of a page is
+ * built the first time a count reaches the page, so counting the primes
+ * up to a small number only loads the first pages.
+ * </p>
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see BufferedPrimeNumberGenerator
+ * @see PrimeStore
+ *
+ * @author stefanboodt
+ *
+ */
+final class PrimeBitmap {
+
+	/**
+	 * The amount of numbers stored in one byte.
+	 */
+	static final int WHEEL = 30;
+
+	/**
+	 * The amount of bytes in one block of the rank index.
+	 */
+	static final int BLOCK = 1024;
+
+	/**
+	 * The amount of bytes in one page is 2 ^ PAGE_SHIFT.
+	 */
+	static final int PAGE_SHIFT = 16;
+
+	/**
+	 * The amount of bytes in one page, the primes of almost two million
+	 * numbers.
+	 */
+	static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+
+	/**
+	 * Selects the position in a page from the index of a byte.
+	 */
+	private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+	/**
+	 * The amount of blocks of the rank index in one page.
+	 */
+	private static final int BLOCKS_PER_PAGE = PAGE_SIZE / BLOCK;
+
+	/**
+	 * The residues modulo 30 that can be prime, bit i of a byte stands
+	 * for residue RESIDUES[i].
+	 */
+	private static final int[] RESIDUES = {1, 7, 11, 13, 17, 19, 23, 29};
+
+	/**
+	 * The bit for each residue modulo 30, or -1 if numbers with that
+	 * residue are divisible by 2, 3 or 5.
+	 */
+	private static final int[] BIT = new int[WHEEL];
+
+	static {
+		for (int i = 0; i < WHEEL; i++) {
+			BIT[i] = -1;
+		}
+		for (int i = 0; i < RESIDUES.length; i++) {
+			BIT[RESIDUES[i]] = i;
+		}
+	}
+
+	/**
+	 * The pages of bits, byte k stores the numbers from 30 * k up to
+	 * 30 * k + 30. A page is null until it is loaded.
+	 */
+	private final AtomicReferenceArray<ByteBuffer> pages;
+
+	/**
+	 * Loads the pages that are still null, or null if all pages are
+	 * there.
+	 */
+	private final PageLoader loader;
+
+	/**
+	 * The amount of bytes used.
+	 */
+	private final int length;
+
+	/**
+	 * The rank index of each page. Entry b of a page is the amount of
+	 * primes in the page before its byte b * BLOCK, and the last entry
+	 * is the amount of primes in the whole page. The index of a page is
+	 * null until a count first needs it.
+	 */
+	private final AtomicReferenceArray<int[]> ranks;
+
+	/**
+	 * Creates an empty PrimeBitmap.
+	 */
+	PrimeBitmap() {
+		this(0, new AtomicReferenceArray<ByteBuffer>(0),
+				new AtomicReferenceArray<int[]>(0), null);
+	}
+
+	/**
+	 * Creates a PrimeBitmap that loads its pages when they are first
+	 * needed.
+	 * @param length The amount of bytes of the bitmap.
+	 * @param loader Loads the pages, page i holds the bytes from
+	 * i * {@link #PAGE_SIZE}.
+	 */
+	PrimeBitmap(int length, PageLoader loader) {
+		this(length, new AtomicReferenceArray<ByteBuffer>(
+				pageCount(length)),
+				new AtomicReferenceArray<int[]>(pageCount(length)), loader);
+	}
+
+	/**
+	 * Creates a PrimeBitmap with the given pages.
+	 * @param length The amount of bytes of the bitmap.
+	 * @param pages The pages, null if not loaded yet.
+	 * @param ranks The rank index of the pages, null if not built yet.
+	 * @param loader Loads the pages that are null.
+	 */
+	private PrimeBitmap(int length, AtomicReferenceArray<ByteBuffer> pages,
+			AtomicReferenceArray<int[]> ranks, PageLoader loader) {
+		this.length = length;
+		this.pages = pages;
+		this.ranks = ranks;
+		this.loader = loader;
+	}
+
+	/**
+	 * Calculates the amount of pages needed for the bytes.
+	 * @param length The amount of bytes.
+	 * @return The amount of pages.
+	 */
+	static int pageCount(int length) {
+		return (length + PAGE_SIZE - 1) >>> PAGE_SHIFT;
+	}
+
+	/**
+	 * Creates a PrimeBitmap that knows all primes below the limit.
+	 * @param limit The limit, rounded up to a multiple of 30.
+	 * @return The bitmap up to the limit.
+	 */
+	static PrimeBitmap sieve(long limit) {
+		return new PrimeBitmap().extend(limit);
+	}
+
+	/**
+	 * Returns the limit. All primes below the limit are known.
+	 * @return The limit of this bitmap.
+	 */
+	long limit() {
+		return (long) length * WHEEL;
+	}
+
+	/**
+	 * Returns the amount of bytes of the bitmap.
+	 * @return The amount of bytes.
+	 */
+	int length() {
+		return length;
+	}
+
+	/**
+	 * Returns a byte of the bitmap, and loads its page if needed.
+	 * @param k The index of the byte.
+	 * @return The byte with the primes from 30 * k up to 30 * k + 30.
+	 */
+	private int get(int k) {
+		int index = k >>> PAGE_SHIFT;
+		ByteBuffer page = pages.get(index);
+		if (page == null) {
+			page = load(index);
+		}
+		return page.get(k & PAGE_MASK) & 0xFF;
+	}
+
+	/**
+	 * Loads a page. When two threads load the same page both get the
+	 * page that was stored first.
+	 * @param index The index of the page.
+	 * @return The page.
+	 */
+	private ByteBuffer load(int index) {
+		pages.compareAndSet(index, null, loader.load(index));
+		return pages.get(index);
+	}
+
+	/**
+	 * Checks if the number is prime. The number should be below the
+	 * limit.
+	 * @param number The number to check.
+	 * @return true iff the number is prime.
+	 */
+	boolean isPrime(long number) {
+		if (number < 7) {
+			return number == 2 || number == 3 || number == 5;
+		}
+		int bit = BIT[(int) (number % WHEEL)];
+		return bit >= 0 && (get((int) (number / WHEEL)) & (1 << bit)) != 0;
+	}
+
+	/**
+	 * Finds the smallest prime number that is at least the given
+	 * number.
+	 * @param from The number to start searching.
+	 * @return The first prime from the given number, or -1 if there is
+	 * no such prime below the limit.
+	 */
+	long nextPrime(long from) {
+		if (from <= 5) {
+			long p = from <= 2 ? 2 : from <= 3 ? 3 : 5;
+			return p < limit() ? p : -1;
+		}
+		int k = (int) (from / WHEEL);
+		int r = (int) (from % WHEEL);
+		int mask = 0xFF;
+		for (int i = 0; i < RESIDUES.length && RESIDUES[i] < r; i++) {
+			mask &= ~(1 << i);
+		}
+		while (k < length) {
+			int b = get(k) & mask;
+			if (b != 0) {
+				return (long) k * WHEEL
+						+ RESIDUES[Integer.numberOfTrailingZeros(b)];
+			}
+			mask = 0xFF;
+			k++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the largest prime number that is at most the given number.
+	 * @param from The number to start searching, below the limit.
+	 * @return The largest prime up to the given number, or -1 if there
+	 * is no such prime.
+	 */
+	long previousPrime(long from) {
+		if (from < 7) {
+			return from >= 5 ? 5 : from >= 3 ? 3 : from >= 2 ? 2 : -1;
+		}
+		int k = (int) (from / WHEEL);
+		int mask = mask((int) (from % WHEEL));
+		while (k >= 0) {
+			int b = get(k) & mask;
+			if (b != 0) {
+				return (long) k * WHEEL
+						+ RESIDUES[31 - Integer.numberOfLeadingZeros(b)];
+			}
+			mask = 0xFF;
+			k--;
+		}
+		return 5;
+	}
+
+	/**
+	 * Counts the prime numbers up to and including the given number.
+	 * @param number The number to count to, below the limit.
+	 * @return The amount of primes that are at most the number.
+	 */
+	long countUpTo(long number) {
+		if (number < 7) {
+			return number >= 5 ? 3 : number >= 3 ? 2 : number >= 2 ? 1 : 0;
+		}
+		int k = (int) (number / WHEEL);
+		int page = k >>> PAGE_SHIFT;
+		long count = 3;
+		for (int i = 0; i < page; i++) {
+			count += ranks(i)[BLOCKS_PER_PAGE];
+		}
+		int block = (k & PAGE_MASK) / BLOCK;
+		count += ranks(page)[block];
+		for (int i = (page << PAGE_SHIFT) + block * BLOCK; i < k; i++) {
+			count += Integer.bitCount(get(i));
+		}
+		int b = get(k) & mask((int) (number % WHEEL));
+		return count + Integer.bitCount(b);
+	}
+
+	/**
+	 * Finds the n-th prime number, where the first prime is 2. Only the
+	 * pages up to the prime are loaded.
+	 * @param n The index of the prime, at least 1.
+	 * @return The n-th prime number, or -1 if there are less than n
+	 * primes below the limit.
+	 */
+	long select(long n) {
+		if (n <= 3) {
+			long p = n == 1 ? 2 : n == 2 ? 3 : 5;
+			return p < limit() ? p : -1;
+		}
+		long remaining = n - 3;
+		int page = 0;
+		int[] rank = null;
+		for (; page < ranks.length(); page++) {
+			rank = ranks(page);
+			if (remaining <= rank[BLOCKS_PER_PAGE]) {
+				break;
+			}
+			remaining -= rank[BLOCKS_PER_PAGE];
+		}
+		if (page == ranks.length()) {
+			return -1;
+		}
+		int low = 0;
+		int high = BLOCKS_PER_PAGE - 1;
+		// Find the last block that starts before the prime.
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (rank[middle] < remaining) {
+				low = middle;
+			}
+			else {
+				high = middle - 1;
+			}
+		}
+		remaining -= rank[low];
+		for (int k = (page << PAGE_SHIFT) + low * BLOCK;; k++) {
+			int b = get(k);
+			int c = Integer.bitCount(b);
+			if (remaining <= c) {
+				for (int i = 1; i < remaining; i++) {
+					b &= b - 1;
+				}
+				return (long) k * WHEEL
+						+ RESIDUES[Integer.numberOfTrailingZeros(b)];
+			}
+			remaining -= c;
+		}
+	}
+
+	/**
+	 * Returns the rank index of a page, and builds it if needed. Building
+	 * it loads the page. When two threads build it at the same time both
+	 * get the index that was stored first.
+	 * @param index The index of the page.
+	 * @return The rank index of the page.
+	 */
+	private int[] ranks(int index) {
+		int[] rank = ranks.get(index);
+		if (rank == null) {
+			rank = new int[BLOCKS_PER_PAGE + 1];
+			int start = index << PAGE_SHIFT;
+			int end = Math.min(length, start + PAGE_SIZE);
+			int sum = 0;
+			for (int block = 0; block < BLOCKS_PER_PAGE; block++) {
+				rank[block] = sum;
+				int blockEnd = Math.min(end, start + (block + 1) * BLOCK);
+				for (int k = start + block * BLOCK; k < blockEnd; k++) {
+					sum += Integer.bitCount(get(k));
+				}
+			}
+			rank[BLOCKS_PER_PAGE] = sum;
+			ranks.compareAndSet(index, null, rank);
+			rank = ranks.get(index);
+		}
+		return rank;
+	}
+
+	/**
+	 * Creates the mask of the bits for the residues up to and including
+	 * the given residue.
+	 * @param residue The largest residue modulo 30.
+	 * @return The mask of those bits.
+	 */
+	private static int mask(int residue) {
+		int mask = 0;
+		for (int i = 0; i < RESIDUES.length && RESIDUES[i] <= residue; i++) {
+			mask |= 1 << i;
+		}
+		return mask;
+	}
+
+	/**
+	 * Checks if the number has a prime factor in the bitmap that is at
+	 * most the given maximum.
+	 * @param number The number to check.
+	 * @param max The largest factor to try, below the limit.
+	 * @return true iff a prime factor up to max divides the number.
+	 */
+	boolean hasFactor(long number, long max) {
+		for (long p = nextPrime(2); p != -1 && p <= max;
+				p = nextPrime(p + 1)) {
+			if (number % p == 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Lists the prime numbers in the bitmap up to the given maximum.
+	 * @param max The largest number to list, below the limit.
+	 * @return The primes up to max in increasing order.
+	 */
+	int[] primes(int max) {
+		int[] primes = new int[(int) countUpTo(max)];
+		int k = 0;
+		for (long p = nextPrime(2); p != -1 && p <= max; p = nextPrime(p + 1)) {
+			primes[k++] = (int) p;
+		}
+		return primes;
+	}
+
+	/**
+	 * Returns a page of this bitmap, from position 0 up to the limit of
+	 * the returned buffer. The buffer should not be changed.
+	 * @param index The index of the page.
+	 * @return A view of the bytes of the page.
+	 */
+	ByteBuffer page(int index) {
+		ByteBuffer page = pages.get(index);
+		if (page == null) {
+			page = load(index);
+		}
+		ByteBuffer view = page.duplicate();
+		view.position(0);
+		view.limit(Math.min(PAGE_SIZE, length - (index << PAGE_SHIFT)));
+		return view;
+	}
+
+	/**
+	 * Copies bytes of this bitmap to an array.
+	 * @param from The index of the first byte to copy.
+	 * @param destination The array to copy to.
+	 * @param offset The position in the array of the first byte.
+	 * @param count The amount of bytes to copy.
+	 */
+	void copy(int from, byte[] destination, int offset, int count) {
+		while (count > 0) {
+			ByteBuffer page = page(from >>> PAGE_SHIFT);
+			page.position(from & PAGE_MASK);
+			int size = Math.min(count, page.remaining());
+			page.get(destination, offset, size);
+			from += size;
+			offset += size;
+			count -= size;
+		}
+	}
+
+	/**
+	 * Creates a bitmap that has the given bytes after the bytes of this
+	 * one. The complete pages of this bitmap are shared, only the last
+	 * page is copied.
+	 * @param bytes The array with the bytes to add.
+	 * @param offset The position of the first byte to add.
+	 * @param count The amount of bytes to add.
+	 * @return The longer bitmap.
+	 */
+	PrimeBitmap append(byte[] bytes, int offset, int count) {
+		int newLength = length + count;
+		AtomicReferenceArray<ByteBuffer> grown =
+				new AtomicReferenceArray<ByteBuffer>(pageCount(newLength));
+		AtomicReferenceArray<int[]> grownRanks =
+				new AtomicReferenceArray<int[]>(grown.length());
+		int full = length >>> PAGE_SHIFT;
+		for (int i = 0; i < full; i++) {
+			grown.set(i, pages.get(i));
+			grownRanks.set(i, ranks.get(i));
+		}
+		for (int i = full; i < grown.length(); i++) {
+			int start = i << PAGE_SHIFT;
+			byte[] page = new byte[Math.min(PAGE_SIZE, newLength - start)];
+			int own = Math.max(0, Math.min(length, start + page.length) - start);
+			copy(start, page, 0, own);
+			System.arraycopy(bytes, offset + start + own - length, page, own,
+					page.length - own);
+			grown.set(i, ByteBuffer.wrap(page));
+		}
+		return new PrimeBitmap(newLength, grown, grownRanks, loader);
+	}
+
+	/**
+	 * Creates a bitmap that knows all primes below the limit. The primes
+	 * that are added are found with a {@link SegmentedSieve} and are
+	 * added with {@link #append(byte[], int, int)}, this one is not
+	 * changed.
+	 * @param limit The new limit, rounded up to a multiple of 30.
+	 * @return The bitmap up to the limit, or this bitmap if its limit
+	 * is large enough already.
+	 */
+	PrimeBitmap extend(long limit) {
+		int newLength = (int) ((limit + WHEEL - 1) / WHEEL);
+		if (newLength <= length) {
+			return this;
+		}
+		byte[] added = new byte[newLength - length];
+		long newLimit = (long) newLength * WHEEL;
+		SegmentedSieve sieve = new SegmentedSieve(Math.max(limit(), 7));
+		for (long p = sieve.nextPrime(); p < newLimit; p = sieve.nextPrime()) {
+			added[(int) (p / WHEEL) - length] |= 1 << BIT[(int) (p % WHEEL)];
+		}
+		return append(added, 0, added.length);
+	}
+
+	/**
+	 * Loads the pages of a bitmap when they are first needed.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see PrimeStore
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	interface PageLoader {
+
+		/**
+		 * Loads a page.
+		 * @param index The index of the page.
+		 * @return The page, with the bytes from index *
+		 * {@link PrimeBitmap#PAGE_SIZE} at position 0.
+		 * @throws java.io.UncheckedIOException If the page can't be read.
+		 */
+		ByteBuffer load(int index);
+	}
+}
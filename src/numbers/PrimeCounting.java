@@ -0,0 +1,67 @@
+package numbers;
+
+/**
+ * Counts the prime numbers up to a number without finding them all,
+ * with the method of Lucy Hedgehog, a simplification of Meissel-Lehmer.
+ * It keeps the count of the numbers that survive the sieve for every
+ * value x / i, and removes the multiples of one prime at a time. This
+ * takes about x^(3/4) steps and memory for 2 * sqrt(x) longs.
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see BufferedPrimeNumberGenerator#primeCount(long)
+ *
+ * @author stefanboodt
+ *
+ */
+final class PrimeCounting {
+
+	/**
+	 * Utility class, should not be instantiated.
+	 */
+	private PrimeCounting() {
+	}
+
+	/**
+	 * Counts the prime numbers up to and including x.
+	 * @param x The number to count to.
+	 * @return The amount of primes that are at most x.
+	 */
+	static long count(long x) {
+		if (x < 2) {
+			return 0;
+		}
+		int root = (int) Math.sqrt(x);
+		while ((long) root * root > x) {
+			root--;
+		}
+		while ((long) (root + 1) * (root + 1) <= x) {
+			root++;
+		}
+		// small[v] is the count for v, large[i] is the count for x / i.
+		long[] small = new long[root + 1];
+		long[] large = new long[root + 1];
+		for (int i = 1; i <= root; i++) {
+			small[i] = i - 1;
+			large[i] = x / i - 1;
+		}
+		for (int p = 2; p <= root; p++) {
+			if (small[p] == small[p - 1]) {
+				continue;
+			}
+			long before = small[p - 1];
+			long square = (long) p * p;
+			long end = Math.min(root, x / square);
+			for (int i = 1; i <= end; i++) {
+				long d = (long) i * p;
+				long value = d <= root ? large[(int) d] : small[(int) (x / d)];
+				large[i] -= value - before;
+			}
+			for (int v = root; v >= square; v--) {
+				small[v] -= small[v / p] - before;
+			}
+		}
+		return large[1];
+	}
+}
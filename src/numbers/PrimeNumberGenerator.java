@@ -2,20 +2,46 @@ package numbers;
 
 import interfaces.*;
 
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 /**
  * The PrimeNumberGenerator generates prime numbers and can be used in
  * a for loop. This Generator is defaulted to see 1 not as a prime number.
  * 
+ * <p>
+ * The primes are found by a {@link SegmentedSieve} that sieves a block
+ * of numbers at a time, so stepping through a lot of primes is fast.
+ * Only when the sieve can't go any further the numbers are checked one
+ * by one with {@link #isPrime(long)}.
+ * </p>
+ * 
+ * <p>
+ * By default {@link #isPrime(long)} uses trial division. For large
+ * numbers the {@link PrimalityTest#MILLER_RABIN} test can be selected
+ * with {@link #setPrimalityTest(PrimalityTest)}.
+ * </p>
+ * 
+ * <p>
+ * Use {@link #nextLong()} in tight loops, it doesn't box the primes.
+ * {@link #next()} is kept for code that uses it as an Iterator.
+ * </p>
+ * 
  * @since 19-8-2014
- * @version 20-8-2014
+ * @version 18-10-2026
  * 
  * @see BufferedPrimeNumberGenerator
  * @see ResetableIterator
+ * @see ResetableLongIterator
+ * @see SegmentedSieve
+ * @see PrimalityTest
+ * @see PrimeRange
  * 
  * @author stefanboodt
  *
  */
-public class PrimeNumberGenerator implements ResetableIterator<Long> {
+public class PrimeNumberGenerator implements ResetableLongIterator {
 
 	/**
 	 * The number it currently contains.
@@ -47,6 +73,22 @@ public class PrimeNumberGenerator implements ResetableIterator<Long> {
 	 */
 	protected final int START;
 	
+	/**
+	 * The sieve that finds the prime numbers after the starting point.
+	 */
+	private final SegmentedSieve sieve;
+	
+	/**
+	 * The test used to check if a number is prime.
+	 */
+	private PrimalityTest primalityTest;
+	
+	/**
+	 * The amount of numbers {@link #isPrime(long[], boolean[])} checks
+	 * on one thread.
+	 */
+	private static final int BATCH = 1 << 13;
+	
 	/**
 	 * Creates a new prime number generator.
 	 */
@@ -76,12 +118,15 @@ public class PrimeNumberGenerator implements ResetableIterator<Long> {
 		}
 		START = startingPoint;
 		AMOUNT_OF_STEPS = steps;
+		sieve = new SegmentedSieve(START + 1L);
+		primalityTest = PrimalityTest.TRIAL_DIVISION;
 		setUp();
 	}
 	
 	private final void setUp() {
 		number = START;
 		steps = 0;
+		sieve.reset();
 	}
 
 	@Override
@@ -94,33 +139,226 @@ public class PrimeNumberGenerator implements ResetableIterator<Long> {
 		return number >= 0 && steps < AMOUNT_OF_STEPS;
 	}
 
+	/**
+	 * Returns the next prime number as a boxed Long.
+	 * @see #nextLong()
+	 */
 	@Override
 	public Long next() {
+		return nextLong();
+	}
+
+	/**
+	 * Returns the next prime number without boxing it.
+	 * @return The next prime number.
+	 */
+	@Override
+	public long nextLong() {
 		steps++;
 		long n = number;
-		number++;
-		while (!isPrime(number)) {
-			number++;
+		if (sieve.hasNext()) {
+			number = sieve.nextPrime();
+		}
+		else {
+			number = Wheel.next(number);
+			while (!isPrime(number)) {
+				number = Wheel.next(number);
+			}
 		}
 		return n;
 	}
 
 	/**
 	 * Checks if the given number is a prime number. The lower the
-	 * number, the sooner it is checked.
+	 * number, the sooner it is checked. The test that is used depends
+	 * on the {@link PrimalityTest} that is selected. Trial division
+	 * only divides by 2, 3, 5, 7 and the numbers that are not divisible
+	 * by those, see {@link Wheel}.
 	 * @param number The number you want to check.
 	 * @return true iff the number is prime.
 	 */
 	public boolean isPrime(long number) {
+		if (primalityTest == PrimalityTest.MILLER_RABIN) {
+			return MillerRabin.isPrime(number);
+		}
 		if (number < FIRST_PRIME) {
 			return false;
 		}
+		for (int p : Wheel.BASIS) {
+			if (number % p == 0) {
+				return number == p;
+			}
+		}
 		double sqrt = Math.sqrt(number);
-		for (long i = 2; i <= sqrt; i++) {
+		long i = Wheel.FIRST;
+		int index = Wheel.FIRST_INDEX;
+		while (i <= sqrt) {
 			if (number % i == 0) {
 				return false;
 			}
+			i += Wheel.GAPS[index];
+			if (++index == Wheel.GAPS.length) {
+				index = 0;
+			}
 		}
 		return true;
 	}
+
+	/**
+	 * Checks for all numbers if they are prime. The numbers are first
+	 * screened together for small factors by a {@link SmallPrimeFilter},
+	 * and only the numbers that are left are checked with
+	 * {@link #isPrime(long)}. Large arrays are split in parts that are
+	 * checked in parallel on the common {@link ForkJoinPool}.
+	 * @param in The numbers you want to check.
+	 * @param out The answers, out[i] is set to true iff in[i] is prime.
+	 * @throws IllegalArgumentException If out is shorter than in.
+	 */
+	public void isPrime(long[] in, boolean[] out) {
+		if (out.length < in.length) {
+			throw new IllegalArgumentException("There are " + in.length
+					+ " numbers but only room for " + out.length + " answers");
+		}
+		if (in.length <= BATCH) {
+			classify(in, out, 0, in.length);
+		}
+		else {
+			ForkJoinPool.commonPool().invoke(new BatchTask(in, out, 0,
+					in.length));
+		}
+	}
+	
+	/**
+	 * Checks for all numbers if they are prime, like
+	 * {@link #isPrime(long[], boolean[])}.
+	 * @param in The numbers you want to check.
+	 * @return The set with bit i set iff in[i] is prime.
+	 */
+	public BitSet isPrime(long[] in) {
+		boolean[] out = new boolean[in.length];
+		isPrime(in, out);
+		BitSet primes = new BitSet(in.length);
+		for (int i = 0; i < in.length; i++) {
+			if (out[i]) {
+				primes.set(i);
+			}
+		}
+		return primes;
+	}
+	
+	/**
+	 * Checks the numbers from index from up to index to. The small
+	 * factors are screened for all numbers together, the numbers that
+	 * are left are checked with {@link #isPrime(long)}, or directly with
+	 * {@link MillerRabin} when that test is selected, as the screening
+	 * already did its trial division.
+	 * @param in The numbers you want to check.
+	 * @param out The answers, out[i] is set to true iff in[i] is prime.
+	 * @param from The first index to check.
+	 * @param to The first index after the numbers to check.
+	 */
+	protected void classify(long[] in, boolean[] out, int from, int to) {
+		int[] indices = new int[to - from];
+		for (int i = from; i < to; i++) {
+			indices[i - from] = i;
+		}
+		int left = SmallPrimeFilter.screen(in, out, indices, indices.length);
+		if (primalityTest == PrimalityTest.MILLER_RABIN) {
+			for (int k = 0; k < left; k++) {
+				out[indices[k]] = MillerRabin.isOddPrime(in[indices[k]]);
+			}
+		}
+		else {
+			for (int k = 0; k < left; k++) {
+				out[indices[k]] = isPrime(in[indices[k]]);
+			}
+		}
+	}
+	
+	/**
+	 * Gets the test used to check if a number is prime.
+	 * @return The selected primality test.
+	 */
+	public PrimalityTest getPrimalityTest() {
+		return primalityTest;
+	}
+	
+	/**
+	 * Selects the test used by {@link #isPrime(long)}.
+	 * @param test The primality test to use.
+	 */
+	public void setPrimalityTest(PrimalityTest test) {
+		if (test == null) {
+			throw new IllegalArgumentException("The test can't be null");
+		}
+		primalityTest = test;
+	}
+	
+	/**
+	 * Checks a part of the numbers of
+	 * {@link PrimeNumberGenerator#isPrime(long[], boolean[])}, by
+	 * splitting it in halves until at most {@link #BATCH} numbers are
+	 * left.
+	 * 
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 * 
+	 * @see RecursiveAction
+	 * 
+	 * @author stefanboodt
+	 *
+	 */
+	private final class BatchTask extends RecursiveAction {
+		
+		/**
+		 * Serial number.
+		 */
+		private static final long serialVersionUID = -6116375412530528541L;
+		
+		/**
+		 * The numbers to check.
+		 */
+		private final long[] in;
+		
+		/**
+		 * The answers.
+		 */
+		private final boolean[] out;
+		
+		/**
+		 * The first index of this task.
+		 */
+		private final int from;
+		
+		/**
+		 * The first index after this task.
+		 */
+		private final int to;
+		
+		/**
+		 * Creates a task for the numbers from index from up to index to.
+		 * @param in The numbers to check.
+		 * @param out The answers.
+		 * @param from The first index of this task.
+		 * @param to The first index after this task.
+		 */
+		BatchTask(long[] in, boolean[] out, int from, int to) {
+			this.in = in;
+			this.out = out;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected void compute() {
+			if (to - from <= BATCH) {
+				classify(in, out, from, to);
+			}
+			else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new BatchTask(in, out, from, middle),
+						new BatchTask(in, out, middle, to));
+			}
+		}
+	}
 }
@@ -0,0 +1,295 @@
+package numbers;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.LongStream;
+
+/**
+ * Finds all prime numbers in a range at once. The range is split into
+ * chunks that are sieved like the {@link SegmentedSieve} does. The
+ * chunks can be sieved in parallel on a {@link ForkJoinPool}, after
+ * which the primes are returned in increasing order.
+ *
+ * <p>
+ * A range is given by the first number that is included and the first
+ * number that is no longer included, so [from, to).
+ * </p>
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see SegmentedSieve
+ * @see PrimeNumberGenerator
+ *
+ * @author stefanboodt
+ *
+ */
+public final class PrimeRange {
+
+	/**
+	 * The amount of odd numbers in one chunk. A chunk is sieved as one
+	 * segment of 512 KB, which fits in the L2 cache. Larger segments
+	 * than those of {@link SegmentedSieve} mean fewer passes over the
+	 * base primes, which matters for ranges of large numbers.
+	 */
+	static final int SEGMENT = 16 * SegmentedSieve.SEGMENT_SIZE;
+
+	/**
+	 * The amount of numbers in one chunk.
+	 */
+	static final long CHUNK = 2L * SEGMENT;
+
+	/**
+	 * The largest amount of primes that is returned in one array.
+	 */
+	static final int MAX_PRIMES = Integer.MAX_VALUE - 8;
+
+	/**
+	 * Utility class, should not be instantiated.
+	 */
+	private PrimeRange() {
+	}
+
+	/**
+	 * Finds the primes in the range on the current thread.
+	 * @param from The first number of the range.
+	 * @param to The first number after the range.
+	 * @return The primes in the range in increasing order.
+	 */
+	public static long[] primes(long from, long to) {
+		checkRange(from, to);
+		if (to <= from) {
+			return new long[0];
+		}
+		int[] basePrimes = basePrimes(to);
+		return sieveChunk(from, to, basePrimes,
+				new boolean[SEGMENT]);
+	}
+
+	/**
+	 * Finds the primes in the range in parallel on the common
+	 * {@link ForkJoinPool}.
+	 * @param from The first number of the range.
+	 * @param to The first number after the range.
+	 * @return The primes in the range in increasing order.
+	 */
+	public static long[] parallelPrimes(long from, long to) {
+		return parallelPrimes(from, to, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Finds the primes in the range in parallel on the given pool.
+	 * @param from The first number of the range.
+	 * @param to The first number after the range.
+	 * @param pool The pool that sieves the chunks.
+	 * @return The primes in the range in increasing order.
+	 */
+	public static long[] parallelPrimes(long from, long to,
+			ForkJoinPool pool) {
+		checkRange(from, to);
+		if (to <= from) {
+			return new long[0];
+		}
+		long chunks = (to - from + CHUNK - 1) / CHUNK;
+		if (chunks > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("The range is too large: ["
+					+ from + ", " + to + ")");
+		}
+		long[][] parts = new long[(int) chunks][];
+		pool.invoke(new ChunkTask(from, to, basePrimes(to), parts, 0,
+				parts.length));
+		long total = 0;
+		for (long[] part : parts) {
+			total += part.length;
+		}
+		if (total > MAX_PRIMES) {
+			throw tooManyPrimes(from, to);
+		}
+		long[] primes = new long[(int) total];
+		int index = 0;
+		for (long[] part : parts) {
+			System.arraycopy(part, 0, primes, index, part.length);
+			index += part.length;
+		}
+		return primes;
+	}
+
+	/**
+	 * Finds the primes in the range in parallel and returns them as an
+	 * ordered stream.
+	 * @param from The first number of the range.
+	 * @param to The first number after the range.
+	 * @return A stream of the primes in the range in increasing order.
+	 */
+	public static LongStream stream(long from, long to) {
+		return LongStream.of(parallelPrimes(from, to));
+	}
+
+	/**
+	 * Checks if the range can be sieved.
+	 * @param from The first number of the range.
+	 * @param to The first number after the range.
+	 */
+	private static void checkRange(long from, long to) {
+		if (from < 0 || to - 1 > SegmentedSieve.MAX_VALUE) {
+			throw new IllegalArgumentException("The range should be within"
+					+ " [0, " + SegmentedSieve.MAX_VALUE + "]: [" + from
+					+ ", " + to + ")");
+		}
+	}
+
+	/**
+	 * Creates the exception for a range with more primes than fit in an
+	 * array.
+	 * @param from The first number of the range.
+	 * @param to The first number after the range.
+	 * @return The exception to throw.
+	 */
+	private static IllegalArgumentException tooManyPrimes(long from,
+			long to) {
+		return new IllegalArgumentException("The range has more than "
+				+ MAX_PRIMES + " primes: [" + from + ", " + to + ")");
+	}
+
+	/**
+	 * Calculates the odd primes needed to sieve up to the given number.
+	 * The square root of a number in the range is at most
+	 * {@link Integer#MAX_VALUE}, so that is as far as the primes go.
+	 * @param to The first number that is not sieved.
+	 * @return The odd primes up to the square root of to.
+	 */
+	private static int[] basePrimes(long to) {
+		long root = (long) Math.sqrt(to) + 1;
+		return SegmentedSieve.oddPrimes((int) Math.min(root,
+				Integer.MAX_VALUE));
+	}
+
+	/**
+	 * Sieves the range segment by segment.
+	 * @param from The first number of the range.
+	 * @param to The first number after the range.
+	 * @param basePrimes The odd primes up to the square root of to.
+	 * @param composite The buffer used for one segment.
+	 * @return The primes in the range in increasing order.
+	 */
+	static long[] sieveChunk(long from, long to, int[] basePrimes,
+			boolean[] composite) {
+		// Roughly the amount of primes expected, it grows if needed.
+		double log = Math.log(Math.max(to, 3));
+		long[] primes = new long[(int) Math.min(
+				(long) ((to - from) / log * 1.2) + 16, MAX_PRIMES)];
+		int count = 0;
+		if (from <= 2 && to > 2) {
+			primes[count++] = 2;
+		}
+		long low = Math.max(from, 3);
+		if (low % 2 == 0) {
+			low++;
+		}
+		while (low < to) {
+			int length = (int) Math.min(composite.length, (to - low + 1) / 2);
+			SegmentedSieve.sieveSegment(composite, low, length, basePrimes);
+			for (int i = 0; i < length; i++) {
+				if (!composite[i]) {
+					if (count == primes.length) {
+						if (count == MAX_PRIMES) {
+							throw tooManyPrimes(from, to);
+						}
+						primes = Arrays.copyOf(primes,
+								(int) Math.min(2L * count, MAX_PRIMES));
+					}
+					primes[count++] = low + 2L * i;
+				}
+			}
+			low += 2L * length;
+		}
+		return Arrays.copyOf(primes, count);
+	}
+
+	/**
+	 * Sieves a group of chunks, by splitting it in halves until a
+	 * single chunk is left.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see RecursiveAction
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	private static final class ChunkTask extends RecursiveAction {
+
+		/**
+		 * Serial number.
+		 */
+		private static final long serialVersionUID = -3520573146101813291L;
+
+		/**
+		 * The first number of the whole range.
+		 */
+		private final long from;
+
+		/**
+		 * The first number after the whole range.
+		 */
+		private final long to;
+
+		/**
+		 * The odd primes up to the square root of to.
+		 */
+		private final int[] basePrimes;
+
+		/**
+		 * The primes of each chunk, filled in by the tasks.
+		 */
+		private final long[][] parts;
+
+		/**
+		 * The first chunk of this task.
+		 */
+		private final int first;
+
+		/**
+		 * The first chunk after this task.
+		 */
+		private final int last;
+
+		/**
+		 * Creates a task for the chunks from first up to last.
+		 * @param from The first number of the whole range.
+		 * @param to The first number after the whole range.
+		 * @param basePrimes The odd primes up to the square root of to.
+		 * @param parts The primes of each chunk.
+		 * @param first The first chunk of this task.
+		 * @param last The first chunk after this task.
+		 */
+		ChunkTask(long from, long to, int[] basePrimes, long[][] parts,
+				int first, int last) {
+			this.from = from;
+			this.to = to;
+			this.basePrimes = basePrimes;
+			this.parts = parts;
+			this.first = first;
+			this.last = last;
+		}
+
+		@Override
+		protected void compute() {
+			if (last - first == 1) {
+				long low = from + first * CHUNK;
+				long high = Math.min(to, low + CHUNK);
+				parts[first] = sieveChunk(low, high, basePrimes,
+						new boolean[SEGMENT]);
+			}
+			else {
+				int middle = (first + last) >>> 1;
+				invokeAll(new ChunkTask(from, to, basePrimes, parts, first,
+						middle),
+						new ChunkTask(from, to, basePrimes, parts, middle,
+						last));
+			}
+		}
+	}
+}
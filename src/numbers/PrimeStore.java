@@ -0,0 +1,578 @@
+package numbers;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.Arrays;
+import java.util.Scanner;
+import java.util.zip.CRC32;
+
+/**
+ * The PrimeStore keeps a {@link PrimeBitmap} in a binary file. The
+ * file is opened as a memory mapped {@link FileChannel}, so loading it
+ * takes the same time no matter how many primes it holds: the
+ * operating system reads the pages when they are first used.
+ *
+ * <p>
+ * The file starts with a header of {@link #HEADER_SIZE} bytes: the
+ * {@link #MAGIC} number, the {@link #VERSION} and the amount of bytes
+ * in the bitmap. The bits of the bitmap follow the header. A file is
+ * saved to a temporary file first and then moved in place, so a reader
+ * never sees a half written file.
+ * </p>
+ *
+ * <p>
+ * Instead of saving the whole bitmap, the bytes added since the last
+ * save can be appended to a journal next to the file with
+ * {@link #append(PrimeBitmap)}. A record of the journal holds the
+ * offset of its bytes in the bitmap, the amount of bytes, a checksum
+ * and the bytes. Loading the store replays the journal over the file.
+ * When the journal gets large it is merged into the file by a
+ * background thread.
+ * </p>
+ *
+ * <p>
+ * The bytes of a record are correct for their offset no matter what
+ * happened after they were written, so replaying a record twice does no
+ * harm. This is what makes the store survive a crash: a record that was
+ * only partly written fails its checksum and is dropped with everything
+ * after it, and a crash during a merge leaves the records that were
+ * merged in the journal, where they are simply replayed again.
+ * </p>
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see PrimeBitmap
+ * @see BufferedPrimeNumberGenerator
+ *
+ * @author stefanboodt
+ *
+ */
+final class PrimeStore {
+
+	/**
+	 * The first bytes of the file, "PRIM" in ASCII.
+	 */
+	static final int MAGIC = 0x5052494D;
+
+	/**
+	 * The version of the file format.
+	 */
+	static final int VERSION = 1;
+
+	/**
+	 * The size of the header in bytes.
+	 */
+	static final int HEADER_SIZE = 16;
+
+	/**
+	 * The size of the header of a journal record in bytes: the offset
+	 * long, the length int and the checksum int.
+	 */
+	static final int RECORD_HEADER_SIZE = 16;
+
+	/**
+	 * The journal is merged into the file when it is at least this many
+	 * bytes and larger than a quarter of the bitmap.
+	 */
+	static final long MERGE_SIZE = 1 << 16;
+
+	/**
+	 * The file used to store the primes.
+	 */
+	private final File file;
+
+	/**
+	 * The journal with the bytes added since the file was written.
+	 */
+	private final File journal;
+
+	/**
+	 * Writing the file and dropping the merged part of the journal
+	 * happen under this lock. It is taken after the lock on the store
+	 * itself, never before.
+	 */
+	private final Object fileLock = new Object();
+
+	/**
+	 * The amount of bytes of the bitmap in the file and the journal
+	 * together, or -1 if that is unknown.
+	 */
+	private long persisted;
+
+	/**
+	 * Counts the times the journal was removed by {@link #save}, so a
+	 * merge can tell that the journal it read is gone.
+	 */
+	private long generation;
+
+	/**
+	 * Remembers whether a merge is running.
+	 */
+	private boolean merging;
+
+	/**
+	 * Creates a PrimeStore that uses the given file.
+	 * @param file The binary file of the store.
+	 */
+	PrimeStore(File file) {
+		this.file = file;
+		journal = new File(file.getPath() + ".journal");
+		persisted = -1;
+	}
+
+	/**
+	 * Tells if the file or the journal of the store exists.
+	 * @return true iff there is something to load.
+	 */
+	boolean exists() {
+		return file.exists() || journal.exists();
+	}
+
+	/**
+	 * Tells if there is a journal that has not been merged into the file.
+	 * @return true iff the journal exists.
+	 */
+	boolean hasJournal() {
+		return journal.exists();
+	}
+
+	/**
+	 * Loads the bitmap by mapping the file in memory and replaying the
+	 * journal over it.
+	 * @return The bitmap stored in the file and the journal.
+	 * @throws IOException If the file can't be read or has the wrong
+	 * format.
+	 */
+	synchronized PrimeBitmap load() throws IOException {
+		PrimeBitmap bitmap;
+		synchronized (fileLock) {
+			bitmap = file.exists() ? map() : new PrimeBitmap();
+		}
+		if (journal.exists()) {
+			bitmap = replay(bitmap);
+		}
+		persisted = bitmap.length();
+		return bitmap;
+	}
+
+	/**
+	 * Maps the file in memory.
+	 * @return The bitmap stored in the file.
+	 * @throws IOException If the file can't be read or has the wrong
+	 * format.
+	 */
+	private PrimeBitmap map() throws IOException {
+		FileChannel channel = FileChannel.open(file.toPath(),
+				StandardOpenOption.READ);
+		try {
+			if (channel.size() < HEADER_SIZE) {
+				throw new IOException("The file is too short: " + file);
+			}
+			MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY,
+					0, channel.size());
+			if (map.getInt() != MAGIC) {
+				throw new IOException("Not a prime store: " + file);
+			}
+			int version = map.getInt();
+			if (version != VERSION) {
+				throw new IOException("Unknown version " + version + ": "
+						+ file);
+			}
+			long length = map.getLong();
+			if (length != channel.size() - HEADER_SIZE
+					|| length > Integer.MAX_VALUE) {
+				throw new IOException("The file is corrupted: " + file);
+			}
+			return new PrimeBitmap((int) length, new MappedPages(map.slice()));
+		}
+		finally {
+			// The mapping stays valid after the channel is closed.
+			channel.close();
+		}
+	}
+
+	/**
+	 * Replays the records of the journal over the bitmap. A record that
+	 * is incomplete, has a wrong checksum or leaves a gap ends the
+	 * journal, and is cut off so new records can follow the last good
+	 * one. Only the bytes after the bitmap are read into memory, the
+	 * pages of the file are left alone.
+	 * @param bitmap The bitmap from the file.
+	 * @return The bitmap with the bytes of the journal added.
+	 * @throws IOException If the journal can't be read.
+	 */
+	private PrimeBitmap replay(PrimeBitmap bitmap) throws IOException {
+		int length = bitmap.length();
+		// The bytes after the bitmap, starting at index length.
+		byte[] added = new byte[0];
+		int end = length;
+		FileChannel channel = FileChannel.open(journal.toPath(),
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			long position = 0;
+			ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+			while (true) {
+				header.clear();
+				if (!readFully(channel, header, position)) {
+					break;
+				}
+				header.flip();
+				long offset = header.getLong();
+				int size = header.getInt();
+				int checksum = header.getInt();
+				if (size < 0 || offset < 0 || offset > end
+						|| size > channel.size() - position) {
+					break;
+				}
+				ByteBuffer record = ByteBuffer.allocate(size);
+				if (!readFully(channel, record, position + RECORD_HEADER_SIZE)
+						|| checksum(offset, record.array()) != checksum) {
+					break;
+				}
+				if (offset + size > end) {
+					int skip = (int) (end - offset);
+					int needed = end - length + size - skip;
+					if (needed > added.length) {
+						added = Arrays.copyOf(added,
+								Math.max(needed, 2 * added.length));
+					}
+					System.arraycopy(record.array(), skip, added, end - length,
+							size - skip);
+					end += size - skip;
+				}
+				position += RECORD_HEADER_SIZE + size;
+			}
+			if (position < channel.size()) {
+				channel.truncate(position);
+				channel.force(true);
+			}
+		}
+		finally {
+			channel.close();
+		}
+		return bitmap.append(added, 0, end - length);
+	}
+
+	/**
+	 * Reads bytes from the channel until the buffer is full.
+	 * @param channel The channel to read.
+	 * @param buffer The buffer to fill.
+	 * @param position The position in the channel to start reading.
+	 * @return true iff the buffer was filled, false if the channel ended
+	 * first.
+	 * @throws IOException If the channel can't be read.
+	 */
+	private static boolean readFully(FileChannel channel, ByteBuffer buffer,
+			long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			int read = channel.read(buffer, position);
+			if (read < 0) {
+				return false;
+			}
+			position += read;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculates the checksum of a journal record.
+	 * @param offset The offset of the bytes in the bitmap.
+	 * @param bytes The bytes of the record.
+	 * @return The checksum of the offset and the bytes.
+	 */
+	private static int checksum(long offset, byte[] bytes) {
+		CRC32 crc = new CRC32();
+		crc.update(ByteBuffer.allocate(12).putLong(offset)
+				.putInt(bytes.length).array());
+		crc.update(bytes);
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * Appends the bytes of the bitmap that were not saved yet to the
+	 * journal. When nothing was saved or loaded yet, or the bitmap got
+	 * smaller, the whole bitmap is saved with {@link #save(PrimeBitmap)}
+	 * instead. A merge is started in the background when the journal
+	 * gets large.
+	 * @param bitmap The bitmap to save.
+	 * @throws IOException If the journal can't be written.
+	 */
+	synchronized void append(PrimeBitmap bitmap) throws IOException {
+		int length = bitmap.length();
+		if (persisted < 0 || length < persisted) {
+			save(bitmap);
+			return;
+		}
+		if (length == persisted) {
+			return;
+		}
+		byte[] bytes = new byte[length - (int) persisted];
+		bitmap.copy((int) persisted, bytes, 0, bytes.length);
+		ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+		header.putLong(persisted);
+		header.putInt(bytes.length);
+		header.putInt(checksum(persisted, bytes));
+		header.flip();
+		ByteBuffer record = ByteBuffer.wrap(bytes);
+		FileChannel channel = FileChannel.open(journal.toPath(),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.APPEND);
+		long size;
+		try {
+			while (header.hasRemaining()) {
+				channel.write(header);
+			}
+			while (record.hasRemaining()) {
+				channel.write(record);
+			}
+			channel.force(true);
+			size = channel.size();
+		}
+		finally {
+			channel.close();
+		}
+		persisted = length;
+		if (size >= MERGE_SIZE && size > length / 4) {
+			mergeInBackground(bitmap);
+		}
+	}
+
+	/**
+	 * Starts a thread that merges the journal into the file, unless a
+	 * merge is already running. The thread is a daemon, so it doesn't
+	 * keep the program alive; when it is stopped halfway nothing is
+	 * lost.
+	 * @param bitmap The bitmap with all bytes in the file and the
+	 * journal.
+	 */
+	private void mergeInBackground(final PrimeBitmap bitmap) {
+		if (merging) {
+			return;
+		}
+		merging = true;
+		final long merged = journal.length();
+		final long mergedGeneration = generation;
+		Thread thread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					merge(bitmap, merged, mergedGeneration);
+				}
+				catch (IOException e) {
+					// The journal is kept, so the next merge tries again.
+					e.printStackTrace();
+				}
+				finally {
+					synchronized (PrimeStore.this) {
+						merging = false;
+						PrimeStore.this.notifyAll();
+					}
+				}
+			}
+		}, "PrimeStore merge");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Waits until no merge is running.
+	 * @throws InterruptedException If the thread is interrupted while
+	 * waiting.
+	 */
+	synchronized void awaitMerge() throws InterruptedException {
+		while (merging) {
+			wait();
+		}
+	}
+
+	/**
+	 * Writes the bitmap to the file and removes the first bytes of the
+	 * journal, which are in the file now. The records appended in the
+	 * meantime are kept. The bitmap is written to a temporary file
+	 * without holding a lock, and only moved in place when no
+	 * {@link #save(PrimeBitmap)} replaced the file in the meantime.
+	 * @param bitmap The bitmap with all bytes of the merged records.
+	 * @param merged The amount of bytes of the journal to remove.
+	 * @param mergedGeneration The generation of the journal.
+	 * @throws IOException If the file or the journal can't be written.
+	 */
+	private void merge(PrimeBitmap bitmap, long merged,
+			long mergedGeneration) throws IOException {
+		File written = writeTemp(bitmap);
+		synchronized (this) {
+			if (generation != mergedGeneration || !journal.exists()) {
+				Files.delete(written.toPath());
+				return;
+			}
+			synchronized (fileLock) {
+				move(written, file);
+				if (journal.length() == merged) {
+					Files.delete(journal.toPath());
+					return;
+				}
+				File parent = journal.getAbsoluteFile().getParentFile();
+				File temp = File.createTempFile(journal.getName(), ".tmp",
+						parent);
+				FileChannel in = FileChannel.open(journal.toPath(),
+						StandardOpenOption.READ);
+				FileChannel out = FileChannel.open(temp.toPath(),
+						StandardOpenOption.WRITE);
+				try {
+					long position = merged;
+					while (position < in.size()) {
+						position += in.transferTo(position,
+								in.size() - position, out);
+					}
+					out.force(true);
+				}
+				finally {
+					in.close();
+					out.close();
+				}
+				move(temp, journal);
+			}
+		}
+	}
+
+	/**
+	 * Saves the bitmap to the file and removes the journal. The file is
+	 * written to a temporary file that replaces the old file when it is
+	 * complete.
+	 * @param bitmap The bitmap to save.
+	 * @throws IOException If the file can't be written.
+	 */
+	synchronized void save(PrimeBitmap bitmap) throws IOException {
+		synchronized (fileLock) {
+			write(bitmap);
+			Files.deleteIfExists(journal.toPath());
+		}
+		generation++;
+		persisted = bitmap.length();
+	}
+
+	/**
+	 * Writes the bitmap to a temporary file that replaces the file when
+	 * it is complete.
+	 * @param bitmap The bitmap to write.
+	 * @throws IOException If the file can't be written.
+	 */
+	private void write(PrimeBitmap bitmap) throws IOException {
+		move(writeTemp(bitmap), file);
+	}
+
+	/**
+	 * Writes the bitmap to a new temporary file next to the file.
+	 * @param bitmap The bitmap to write.
+	 * @return The complete temporary file.
+	 * @throws IOException If the file can't be written.
+	 */
+	private File writeTemp(PrimeBitmap bitmap) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		header.putInt(MAGIC);
+		header.putInt(VERSION);
+		header.putLong(bitmap.length());
+		header.flip();
+		File parent = file.getAbsoluteFile().getParentFile();
+		parent.mkdirs();
+		File temp = File.createTempFile(file.getName(), ".tmp", parent);
+		FileChannel channel = FileChannel.open(temp.toPath(),
+				StandardOpenOption.WRITE);
+		try {
+			while (header.hasRemaining()) {
+				channel.write(header);
+			}
+			for (int i = 0; i < PrimeBitmap.pageCount(bitmap.length()); i++) {
+				ByteBuffer page = bitmap.page(i);
+				while (page.hasRemaining()) {
+					channel.write(page);
+				}
+			}
+			channel.force(true);
+		}
+		finally {
+			channel.close();
+		}
+		return temp;
+	}
+
+	/**
+	 * Moves the temporary file in place of the target, atomically when
+	 * the file system supports it.
+	 * @param temp The complete temporary file.
+	 * @param target The file to replace.
+	 * @throws IOException If the file can't be moved.
+	 */
+	private static void move(File temp, File target) throws IOException {
+		try {
+			Files.move(temp.toPath(), target.toPath(),
+					StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException e) {
+			Files.move(temp.toPath(), target.toPath(),
+					StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Reads a text file with prime numbers separated by white space,
+	 * the format used before the binary store. The bitmap that is
+	 * returned knows all primes up to the largest number in the file.
+	 * @param text The text file.
+	 * @param minimum The minimal limit of the bitmap.
+	 * @return The bitmap with the primes of the text file.
+	 * @throws FileNotFoundException If the text file doesn't exist.
+	 */
+	static PrimeBitmap importText(File text, long minimum)
+			throws FileNotFoundException {
+		long largest = 0;
+		Scanner sc = new Scanner(new BufferedReader(new FileReader(text)));
+		while (sc.hasNextLong()) {
+			largest = Math.max(largest, sc.nextLong());
+		}
+		sc.close();
+		return PrimeBitmap.sieve(Math.max(largest + 1, minimum));
+	}
+
+	/**
+	 * Loads the pages of a bitmap from a memory mapped file. A page is a
+	 * view of a part of the mapping, the operating system reads it from
+	 * the file when it is first used.
+	 *
+	 * @since 18-10-2026
+	 * @version 18-10-2026
+	 *
+	 * @see PrimeBitmap.PageLoader
+	 *
+	 * @author stefanboodt
+	 *
+	 */
+	private static final class MappedPages implements PrimeBitmap.PageLoader {
+
+		/**
+		 * The mapped bits of the file, without the header.
+		 */
+		private final ByteBuffer map;
+
+		/**
+		 * Creates a loader for the mapped bits.
+		 * @param map The mapped bits of the file.
+		 */
+		MappedPages(ByteBuffer map) {
+			this.map = map;
+		}
+
+		@Override
+		public ByteBuffer load(int index) {
+			ByteBuffer page = map.duplicate();
+			int start = index << PrimeBitmap.PAGE_SHIFT;
+			page.limit(Math.min(map.limit(), start + PrimeBitmap.PAGE_SIZE));
+			page.position(start);
+			return page.slice();
+		}
+	}
+}
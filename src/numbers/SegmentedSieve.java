@@ -0,0 +1,267 @@
+package numbers;
+
+import interfaces.ResetableLongIterator;
+
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+
+/**
+ * The SegmentedSieve is a Sieve of Eratosthenes that works on one
+ * segment of numbers at a time. Only the odd numbers are stored, and a
+ * segment is small enough to stay in the L1/L2 cache of the processor,
+ * so stepping through millions of primes does not need any division.
+ *
+ * <p>
+ * The sieve produces the prime numbers from the starting point upwards
+ * in increasing order. The primes needed to cross off the composites of
+ * a segment (the base primes) are calculated when they are first
+ * needed. The sieve can be used for numbers up to {@link #MAX_VALUE},
+ * after that {@link #hasNext()} returns false.
+ * </p>
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see PrimeNumberGenerator
+ * @see ResetableLongIterator
+ *
+ * @author stefanboodt
+ *
+ */
+public class SegmentedSieve implements ResetableLongIterator {
+
+	/**
+	 * The amount of odd numbers in one segment. One segment takes
+	 * 32 KB which fits in the L1 cache of most processors.
+	 */
+	public static final int SEGMENT_SIZE = 1 << 15;
+
+	/**
+	 * The largest number the sieve can handle. The base primes are
+	 * stored as ints, so numbers up to the square of the largest int
+	 * can be sieved.
+	 */
+	public static final long MAX_VALUE =
+			(long) Integer.MAX_VALUE * Integer.MAX_VALUE;
+
+	/**
+	 * The smallest number that is returned.
+	 */
+	private final long start;
+
+	/**
+	 * Marks the odd numbers in the current segment that are composite.
+	 * Index i represents the number low + 2 * i.
+	 */
+	private final boolean[] composite;
+
+	/**
+	 * The odd number represented by the first index of the segment.
+	 */
+	private long low;
+
+	/**
+	 * The odd number the next segment starts with.
+	 */
+	private long nextLow;
+
+	/**
+	 * The index in the segment that is checked next.
+	 */
+	private int index;
+
+	/**
+	 * The amount of numbers used in the current segment.
+	 */
+	private int length;
+
+	/**
+	 * Remembers whether 2 still has to be returned.
+	 */
+	private boolean two;
+
+	/**
+	 * The odd primes used to sieve the segments.
+	 */
+	private int[] basePrimes;
+
+	/**
+	 * All base primes up to this number are known.
+	 */
+	private long baseLimit;
+
+	/**
+	 * Creates a SegmentedSieve that starts at the first prime number.
+	 */
+	public SegmentedSieve() {
+		this(PrimeNumberGenerator.FIRST_PRIME);
+	}
+
+	/**
+	 * Creates a SegmentedSieve that returns the primes starting from the
+	 * given number.
+	 * @param start The smallest number that may be returned.
+	 */
+	public SegmentedSieve(long start) {
+		super();
+		this.start = start;
+		composite = new boolean[SEGMENT_SIZE];
+		basePrimes = new int[0];
+		baseLimit = 1;
+		reset();
+	}
+
+	/**
+	 * Resets the sieve so it starts at the starting point again. The
+	 * base primes are kept.
+	 */
+	@Override
+	public void reset() {
+		two = start <= 2;
+		long first = Math.max(start, 3);
+		if (first % 2 == 0) {
+			first++;
+		}
+		nextLow = first;
+		low = first;
+		index = 0;
+		length = 0;
+	}
+
+	/**
+	 * Tells if there is another prime that can be found by this sieve.
+	 * @return true iff the next prime is at most {@link #MAX_VALUE}.
+	 */
+	@Override
+	public boolean hasNext() {
+		return two || index < length || nextLow <= MAX_VALUE;
+	}
+
+	/**
+	 * Returns the next prime number.
+	 * @return The smallest prime that has not been returned yet.
+	 * @throws NoSuchElementException If the prime is beyond
+	 * {@link #MAX_VALUE}.
+	 */
+	public long nextPrime() {
+		if (two) {
+			two = false;
+			return 2;
+		}
+		while (true) {
+			while (index < length) {
+				if (!composite[index]) {
+					return low + 2L * index++;
+				}
+				index++;
+			}
+			if (nextLow > MAX_VALUE) {
+				throw new NoSuchElementException();
+			}
+			sieve(nextLow);
+		}
+	}
+
+	/**
+	 * Returns the next prime number, equal to {@link #nextPrime()}.
+	 * @return The smallest prime that has not been returned yet.
+	 * @throws NoSuchElementException If the prime is beyond
+	 * {@link #MAX_VALUE}.
+	 */
+	@Override
+	public long nextLong() {
+		return nextPrime();
+	}
+
+	/**
+	 * Sieves the segment starting at the given odd number.
+	 * @param from The odd number the segment starts with.
+	 */
+	private void sieve(long from) {
+		low = from;
+		index = 0;
+		length = (int) Math.min(SEGMENT_SIZE, (MAX_VALUE - low) / 2 + 1);
+		nextLow = low + 2L * length;
+		long high = low + 2L * (length - 1);
+		ensureBasePrimes(high);
+		sieveSegment(composite, low, length, basePrimes);
+	}
+
+	/**
+	 * Marks all composite odd numbers in the segment. Index i of the
+	 * segment represents the number low + 2 * i.
+	 * @param composite The segment to mark, only the first length
+	 * elements are used.
+	 * @param low The odd number at the start of the segment.
+	 * @param length The amount of odd numbers in the segment.
+	 * @param primes The odd primes in increasing order, at least up to
+	 * the square root of the highest number in the segment.
+	 */
+	static void sieveSegment(boolean[] composite, long low, int length,
+			int[] primes) {
+		long high = low + 2L * (length - 1);
+		for (int i = 0; i < length; i++) {
+			composite[i] = false;
+		}
+		if (low == 1) {
+			composite[0] = true;
+		}
+		for (int p : primes) {
+			long square = (long) p * p;
+			if (square > high) {
+				break;
+			}
+			long first = Math.max(square, (low + p - 1) / p * p);
+			if (first % 2 == 0) {
+				first += p;
+			}
+			for (long j = (first - low) / 2; j < length; j += p) {
+				composite[(int) j] = true;
+			}
+		}
+	}
+
+	/**
+	 * Makes sure all base primes needed for numbers up to high are
+	 * known. The amount of base primes is at least doubled each time so
+	 * this doesn't need to happen often.
+	 * @param high The highest number that is going to be sieved.
+	 */
+	private void ensureBasePrimes(long high) {
+		long needed = (long) Math.sqrt(high) + 1;
+		if (needed <= baseLimit) {
+			return;
+		}
+		baseLimit = Math.min(Math.max(needed, 2 * baseLimit),
+				Integer.MAX_VALUE);
+		basePrimes = oddPrimes((int) baseLimit);
+	}
+
+	/**
+	 * Calculates the odd primes up to and including the limit with a
+	 * simple Sieve of Eratosthenes.
+	 * @param limit The highest number to check.
+	 * @return The odd primes up to limit in increasing order.
+	 */
+	static int[] oddPrimes(int limit) {
+		// Index i represents the number 2 * i + 1.
+		int half = (int) ((limit - 1L) / 2 + 1);
+		BitSet composite = new BitSet(half);
+		composite.set(0);
+		for (long i = 1; (2 * i + 1) * (2 * i + 1) <= limit; i++) {
+			if (!composite.get((int) i)) {
+				long p = 2 * i + 1;
+				for (long j = (p * p) / 2; j < half; j += p) {
+					composite.set((int) j);
+				}
+			}
+		}
+		int[] primes = new int[half - composite.cardinality()];
+		int k = 0;
+		for (int i = composite.nextClearBit(0); i < half;
+				i = composite.nextClearBit(i + 1)) {
+			primes[k++] = 2 * i + 1;
+		}
+		return primes;
+	}
+}
@@ -0,0 +1,118 @@
+package numbers;
+
+/**
+ * Screens many numbers at once for small prime factors, before the
+ * expensive primality test is done on the numbers that are left.
+ *
+ * <p>
+ * The numbers are handled in blocks of {@link #BLOCK}. For each small
+ * prime the whole block is checked in one loop without branches: n is a
+ * multiple of the odd prime p exactly when n times the inverse of p
+ * modulo 2^64 is at most (2^64 - 1) / p. Looping over the numbers per
+ * prime keeps the loops short and predictable, where checking one
+ * number at a time exits at a different prime for every number.
+ * </p>
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see PrimeNumberGenerator#isPrime(long[], boolean[])
+ *
+ * @author stefanboodt
+ *
+ */
+final class SmallPrimeFilter {
+
+	/**
+	 * The amount of numbers screened together.
+	 */
+	static final int BLOCK = 1 << 10;
+
+	/**
+	 * The odd primes used to screen the numbers.
+	 */
+	private static final long[] PRIMES = {3, 5, 7, 11, 13, 17, 19, 23, 29,
+		31, 37, 41, 43, 47, 53, 59, 61, 67, 71, 73, 79, 83, 89, 97};
+
+	/**
+	 * Numbers below this bound without a small factor are prime.
+	 */
+	static final long PRIME_BOUND = 101 * 101;
+
+	/**
+	 * The inverse of each prime modulo 2^64.
+	 */
+	private static final long[] INVERSES = new long[PRIMES.length];
+
+	/**
+	 * The largest quotient (2^64 - 1) / p for each prime p, plus
+	 * {@link Long#MIN_VALUE} so it can be compared as a signed number.
+	 */
+	private static final long[] BOUNDS = new long[PRIMES.length];
+
+	static {
+		for (int i = 0; i < PRIMES.length; i++) {
+			long p = PRIMES[i];
+			long inverse = p;
+			for (int j = 0; j < 5; j++) {
+				inverse *= 2 - p * inverse;
+			}
+			INVERSES[i] = inverse;
+			BOUNDS[i] = Long.divideUnsigned(-1L, p) + Long.MIN_VALUE;
+		}
+	}
+
+	/**
+	 * Utility class, should not be instantiated.
+	 */
+	private SmallPrimeFilter() {
+	}
+
+	/**
+	 * Screens the numbers at the given indices. The answer is stored for
+	 * every number with a small factor and every number below
+	 * {@link #PRIME_BOUND}. The indices of the other numbers are moved
+	 * to the front of the indices, in the same order.
+	 * @param in The numbers.
+	 * @param out The answers, out[i] is set to true iff in[i] is known
+	 * to be prime.
+	 * @param indices The indices of the numbers to screen.
+	 * @param count The amount of indices used.
+	 * @return The amount of numbers that still need to be tested.
+	 */
+	static int screen(long[] in, boolean[] out, int[] indices, int count) {
+		long[] block = new long[Math.min(BLOCK, count)];
+		boolean[] factor = new boolean[block.length];
+		int left = 0;
+		for (int start = 0; start < count; start += BLOCK) {
+			int length = Math.min(BLOCK, count - start);
+			for (int k = 0; k < length; k++) {
+				long n = in[indices[start + k]];
+				block[k] = n;
+				factor[k] = n < 2 | ((n & 1) == 0 & n != 2);
+			}
+			for (int j = 0; j < PRIMES.length; j++) {
+				long p = PRIMES[j];
+				long inverse = INVERSES[j];
+				long bound = BOUNDS[j];
+				for (int k = 0; k < length; k++) {
+					long n = block[k];
+					factor[k] |= n * inverse + Long.MIN_VALUE <= bound & n != p;
+				}
+			}
+			for (int k = 0; k < length; k++) {
+				int i = indices[start + k];
+				if (factor[k]) {
+					out[i] = false;
+				}
+				else if (block[k] < PRIME_BOUND) {
+					out[i] = true;
+				}
+				else {
+					indices[left++] = i;
+				}
+			}
+		}
+		return left;
+	}
+}
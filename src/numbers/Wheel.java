@@ -0,0 +1,98 @@
+package numbers;
+
+/**
+ * The wheel of the primes 2, 3, 5 and 7. Of every 210 numbers only the
+ * 48 that are not divisible by one of these primes can be prime, so
+ * stepping from one such number to the next skips about 77% of the
+ * numbers. The wheel is used both for the candidates that are checked
+ * and for the divisors used in trial division.
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see PrimeNumberGenerator#isPrime(long)
+ *
+ * @author stefanboodt
+ *
+ */
+final class Wheel {
+
+	/**
+	 * The primes the wheel is made of.
+	 */
+	static final int[] BASIS = {2, 3, 5, 7};
+
+	/**
+	 * The size of the wheel, the product of the basis.
+	 */
+	static final int SIZE = 2 * 3 * 5 * 7;
+
+	/**
+	 * The first number after the basis that is not skipped by the wheel.
+	 */
+	static final int FIRST = 11;
+
+	/**
+	 * The index of {@link #FIRST} in the residues.
+	 */
+	static final int FIRST_INDEX = 1;
+
+	/**
+	 * The residues modulo 210 that are not divisible by the basis.
+	 */
+	private static final int[] RESIDUES = new int[48];
+
+	/**
+	 * GAPS[i] is the distance from RESIDUES[i] to the next residue.
+	 */
+	static final int[] GAPS = new int[RESIDUES.length];
+
+	/**
+	 * NEXT[r] is the distance from a number with residue r to the first
+	 * larger number that is not skipped by the wheel.
+	 */
+	private static final int[] NEXT = new int[SIZE];
+
+	static {
+		int k = 0;
+		for (int r = 1; r < SIZE; r++) {
+			if (r % 2 != 0 && r % 3 != 0 && r % 5 != 0 && r % 7 != 0) {
+				RESIDUES[k++] = r;
+			}
+		}
+		for (int i = 0; i < RESIDUES.length; i++) {
+			int next = i + 1 < RESIDUES.length ? RESIDUES[i + 1]
+					: SIZE + RESIDUES[0];
+			GAPS[i] = next - RESIDUES[i];
+		}
+		int i = 0;
+		for (int r = 0; r < SIZE; r++) {
+			while (i < RESIDUES.length && RESIDUES[i] <= r) {
+				i++;
+			}
+			int next = i < RESIDUES.length ? RESIDUES[i] : SIZE + RESIDUES[0];
+			NEXT[r] = next - r;
+		}
+	}
+
+	/**
+	 * Utility class, should not be instantiated.
+	 */
+	private Wheel() {
+	}
+
+	/**
+	 * Finds the first number above n that can be prime, which is one of
+	 * the basis or a number that is not divisible by the basis.
+	 * @param n The non negative number to start from.
+	 * @return The smallest possible prime larger than n.
+	 */
+	static long next(long n) {
+		for (int p : BASIS) {
+			if (n < p) {
+				return p;
+			}
+		}
+		return n + NEXT[(int) (n % SIZE)];
+	}
+}
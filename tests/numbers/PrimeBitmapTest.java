@@ -0,0 +1,113 @@
+package numbers;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the PrimeBitmap only loads the pages a query needs. The
+ * test is in the package of the bitmap, because the bitmap and its
+ * {@link PrimeBitmap.PageLoader} are not public.
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see PrimeBitmap
+ *
+ * @author stefanboodt
+ *
+ */
+public class PrimeBitmapTest {
+
+	/**
+	 * The amount of pages of the bitmap under test.
+	 */
+	private static final int PAGES = 4;
+
+	/**
+	 * A bitmap with all pages in memory, the lazy bitmap loads its
+	 * pages from here.
+	 */
+	private static final PrimeBitmap SIEVED = PrimeBitmap.sieve(
+			(long) PAGES * PrimeBitmap.PAGE_SIZE * PrimeBitmap.WHEEL);
+
+	/**
+	 * The amount of times each page was loaded.
+	 */
+	private int[] loads;
+
+	/**
+	 * The bitmap under test, which loads its pages when they are needed.
+	 */
+	private PrimeBitmap bitmap;
+
+	/**
+	 * Creates a bitmap with a loader that counts the pages it loads.
+	 */
+	@Before
+	public void setUp() {
+		loads = new int[PAGES];
+		bitmap = new PrimeBitmap(SIEVED.length(), new PrimeBitmap.PageLoader() {
+			@Override
+			public ByteBuffer load(int index) {
+				loads[index]++;
+				return SIEVED.page(index);
+			}
+		});
+	}
+
+	/**
+	 * Tests that small queries only load the first page.
+	 */
+	@Test
+	public void testSmallQueriesLoadFirstPage() {
+		assertTrue(bitmap.isPrime(7));
+		assertEquals(4, bitmap.countUpTo(10));
+		assertEquals(11, bitmap.select(5));
+		assertEquals(13, bitmap.nextPrime(12));
+		assertArrayEquals(new int[] {1, 0, 0, 0}, loads);
+	}
+
+	/**
+	 * Tests that counting up to a number in a later page loads only the
+	 * pages up to that number, each once, and gives the same count as
+	 * the sieved bitmap.
+	 */
+	@Test
+	public void testCountLoadsPagesUpToNumber() {
+		long number = 2L * PrimeBitmap.PAGE_SIZE * PrimeBitmap.WHEEL + 100;
+		assertEquals(SIEVED.countUpTo(number), bitmap.countUpTo(number));
+		assertEquals(SIEVED.countUpTo(number - 1),
+				bitmap.countUpTo(number - 1));
+		assertArrayEquals(new int[] {1, 1, 1, 0}, loads);
+	}
+
+	/**
+	 * Tests that counting and selecting agree across the pages.
+	 */
+	@Test
+	public void testSelectCountUpTo() {
+		long[] numbers = {2, 29, 30, 1966079, 1966080, 1966081, 5000000,
+				SIEVED.limit() - 1};
+		for (long number: numbers) {
+			long count = bitmap.countUpTo(number);
+			assertEquals(SIEVED.countUpTo(number), count);
+			assertEquals(bitmap.previousPrime(number), bitmap.select(count));
+		}
+	}
+
+	/**
+	 * Tests that selecting beyond the primes of the bitmap gives -1.
+	 */
+	@Test
+	public void testSelectBeyondLimit() {
+		long count = bitmap.countUpTo(bitmap.limit() - 1);
+		assertEquals(bitmap.previousPrime(bitmap.limit() - 1),
+				bitmap.select(count));
+		assertEquals(-1, bitmap.select(count + 1));
+		assertEquals(-1, new PrimeBitmap().select(1));
+	}
+}
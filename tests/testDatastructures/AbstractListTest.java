@@ -3,6 +3,7 @@ package testDatastructures;
 import static org.junit.Assert.*;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 import org.junit.After;
 import org.junit.Before;
@@ -10,13 +11,14 @@ import org.junit.Test;
 
 import datastructures.AbstractList;
 import datastructures.CircularLinkedList;
+import interfaces.ResetableIterator;
 
 /**
  * Tests the AbstractList class. An empty list should be passed
  * to make sure that the tests pass.
  * 
  * @since 16-8-2014
- * @version 19-8-2014
+ * @version 18-10-2026
  * 
  * @see AbstractList
  * 
@@ -693,6 +695,142 @@ public abstract class AbstractListTest {
 		assertEquals(correct, list.subList(1, 2));
 	}
 	
+	/**
+	 * Tests the sublist is a view that writes through to the list.
+	 */
+	@Test
+	public void testSubListView() {
+		list.add(s1);
+		list.add(s2);
+		list.add(s3);
+		List<String> sub = list.subList(1, 3);
+		sub.set(0, s4);
+		assertEquals(s4, list.get(1));
+		sub.add(s1);
+		sub.add(0, s2);
+		assertEquals(5, list.size());
+		assertEquals(s1, list.get(4));
+		assertEquals(s2, list.get(1));
+		assertEquals(s3, sub.remove(2));
+		sub.clear();
+		assertEquals(1, list.size());
+		assertEquals(s1, list.get(0));
+		sub.add(s3);
+		assertEquals(s3, list.get(1));
+	}
+	
+	/**
+	 * Tests an empty sublist in the middle and at the end of the list.
+	 */
+	@Test
+	public void testSubListEmpty() {
+		list.add(s1);
+		list.add(s2);
+		list.subList(1, 1).add(s3);
+		list.subList(3, 3).add(s4);
+		List<String> correct = list.newList();
+		correct.add(s1);
+		correct.add(s3);
+		correct.add(s2);
+		correct.add(s4);
+		assertEquals(correct, list);
+	}
+	
+	/**
+	 * Tests the sublist fails fast when the list is changed without it.
+	 */
+	@Test (expected = ConcurrentModificationException.class)
+	public void testSubListComodification() {
+		list.add(s1);
+		list.add(s2);
+		List<String> sub = list.subList(0, 1);
+		list.add(s3);
+		sub.get(0);
+	}
+	
+	/**
+	 * Tests the range of a sublist is checked.
+	 */
+	@Test (expected = IndexOutOfBoundsException.class)
+	public void testSubListOutOfBounds() {
+		list.add(s1);
+		list.subList(0, 2);
+	}
+	
+	/**
+	 * Tests a sublist of a sublist.
+	 */
+	@Test
+	public void testSubListNested() {
+		for (int i = 0; i < 10; i++) {
+			list.add(Integer.toString(i));
+		}
+		List<String> outer = list.subList(2, 8);
+		List<String> inner = outer.subList(1, 4);
+		assertEquals("3", inner.get(0));
+		inner.remove(0);
+		inner.add("x");
+		assertEquals(6, outer.size());
+		assertEquals("x", outer.get(3));
+		assertEquals("x", list.get(5));
+		assertEquals("7", outer.get(5));
+	}
+	
+	/**
+	 * Does random changes through a sublist of the list and of an
+	 * ArrayList, which should give the same lists.
+	 */
+	@Test
+	public void testSubListRandom() {
+		List<String> expected = new ArrayList<String>();
+		for (int i = 0; i < 20; i++) {
+			list.add(Integer.toString(i));
+			expected.add(Integer.toString(i));
+		}
+		Random random = new Random(42);
+		for (int round = 0; round < 50; round++) {
+			int from = random.nextInt(expected.size() + 1);
+			int to = from + random.nextInt(expected.size() - from + 1);
+			List<String> sub = list.subList(from, to);
+			List<String> exp = expected.subList(from, to);
+			for (int step = 0; step < 10; step++) {
+				int size = exp.size();
+				switch (random.nextInt(4)) {
+				case 0:
+					int index = random.nextInt(size + 1);
+					sub.add(index, "r" + round + step);
+					exp.add(index, "r" + round + step);
+					break;
+				case 1:
+					if (size > 0) {
+						index = random.nextInt(size);
+						assertEquals(exp.remove(index), sub.remove(index));
+					}
+					break;
+				case 2:
+					if (size > 0) {
+						index = random.nextInt(size);
+						sub.set(index, "s" + round + step);
+						exp.set(index, "s" + round + step);
+					}
+					break;
+				default:
+					if (size > 0) {
+						index = random.nextInt(size);
+						assertEquals(exp.get(index), sub.get(index));
+					}
+				}
+				assertEquals(exp.size(), sub.size());
+			}
+			assertEquals(exp, new ArrayList<String>(sub));
+			assertEquals(expected, new ArrayList<String>(list));
+			if (expected.size() > 40) {
+				list.subList(0, 20).clear();
+				expected.subList(0, 20).clear();
+			}
+		}
+	}
+	
 	/**
 	 * Tests the clear and newList methods.
 	 */
@@ -1023,17 +1161,93 @@ public abstract class AbstractListTest {
 	/**
 	 * Tests the listIterator method.
 	 */
-	@Test (expected = UnsupportedOperationException.class)
+	@Test
 	public void testListIterator() {
-		list.listIterator();
+		list.add(s1);
+		list.add(s2);
+		ListIterator<String> it = list.listIterator();
+		assertFalse(it.hasPrevious());
+		assertEquals(s1, it.next());
+		assertEquals(s2, it.next());
+		assertFalse(it.hasNext());
+		assertEquals(s2, it.previous());
+		assertEquals(1, it.nextIndex());
 	}
 	
 	/**
 	 * Tests the listIterator method that takes a parameter.
 	 */
-	@Test (expected = UnsupportedOperationException.class)
+	@Test
 	public void testListIteratorWithParameter() {
-		list.listIterator(0);
+		list.add(s1);
+		list.add(s2);
+		ListIterator<String> it = list.listIterator(list.size());
+		assertFalse(it.hasNext());
+		assertEquals(s2, it.previous());
+		assertEquals(s1, it.previous());
+		assertFalse(it.hasPrevious());
+	}
+	
+	/**
+	 * Tests the listIterator method with an index past the end.
+	 */
+	@Test (expected = IndexOutOfBoundsException.class)
+	public void testListIteratorOutOfBounds() {
+		list.add(s1);
+		list.listIterator(2);
+	}
+	
+	/**
+	 * Tests changing the list with the ListIterator.
+	 */
+	@Test
+	public void testListIteratorSetAddRemove() {
+		list.add(s1);
+		list.add(s2);
+		list.add(s3);
+		ListIterator<String> it = list.listIterator();
+		it.next();
+		it.set(s4);
+		it.next();
+		it.remove();
+		it.add(s1);
+		it.next();
+		it.add(s2);
+		List<String> correct = list.newList();
+		correct.add(s4);
+		correct.add(s1);
+		correct.add(s3);
+		correct.add(s2);
+		assertEquals(correct, list);
+	}
+	
+	/**
+	 * Tests removing with the ListIterator while walking backwards.
+	 */
+	@Test
+	public void testListIteratorRemoveBackwards() {
+		list.add(s1);
+		list.add(s2);
+		list.add(s3);
+		ListIterator<String> it = list.listIterator(list.size());
+		while (it.hasPrevious()) {
+			it.previous();
+			it.remove();
+		}
+		assertTrue(list.isEmpty());
+	}
+	
+	/**
+	 * Tests the ListIterator when the list is changed behind its back.
+	 */
+	@Test (expected = ConcurrentModificationException.class)
+	public void testListIteratorComodification() {
+		list.add(s1);
+		list.add(s2);
+		ListIterator<String> it = list.listIterator();
+		it.next();
+		list.add(s3);
+		it.next();
 	}
 	
 	/**
@@ -1194,6 +1408,162 @@ public abstract class AbstractListTest {
 		assertEquals(2, list.size());
 	}
 
+	/**
+	 * Tests the {@link AbstractList#removeIf(java.util.function.Predicate)}
+	 * keeps the order of the other elements.
+	 */
+	@Test
+	public void testRemoveIf() {
+		list.add(s1);
+		list.add(s2);
+		list.add(s1);
+		list.add(s3);
+		list.add(s4);
+		assertTrue(list.removeIf(s -> s.equals(s1) || s.equals(s4)));
+		List<String> correct = list.newList();
+		correct.add(s2);
+		correct.add(s3);
+		assertEquals(correct, list);
+		assertFalse(list.removeIf(s -> false));
+	}
+	
+	/**
+	 * Tests the bulk operations with collections that are large enough
+	 * to be put in a HashSet.
+	 */
+	@Test
+	public void testBulkOperationsLarge() {
+		List<String> evens = new ArrayList<String>();
+		for (int i = 0; i < 200; i++) {
+			list.add(Integer.toString(i % 100));
+			if (i % 2 == 0) {
+				evens.add(Integer.toString(i));
+			}
+		}
+		AbstractList<String> other = list.newList();
+		other.addAll(evens);
+		assertEquals(50, list.intersect(other).size());
+		assertEquals(50, list.difference(other).size());
+		assertEquals(100, list.symmetricDifference(other).size());
+		assertTrue(list.containsAll(evens.subList(0, 50)));
+		assertFalse(list.containsAll(evens));
+		assertTrue(list.retainAll(evens));
+		assertEquals(100, list.size());
+		assertEquals("0", list.get(0));
+		assertEquals("2", list.get(1));
+		assertEquals("0", list.get(50));
+		assertTrue(list.removeAll(evens.subList(0, 25)));
+		assertEquals(50, list.size());
+		assertEquals("50", list.get(0));
+	}
+	
+	/**
+	 * Tests the reset of the iterator.
+	 */
+	@Test
+	public void testIteratorReset() {
+		list.add(s3);
+		list.add(s4);
+		ResetableIterator<String> it = list.iterator();
+		it.next();
+		it.next();
+		assertFalse(it.hasNext());
+		it.reset();
+		assertEquals(s3, it.next());
+	}
+	
+	/**
+	 * Tests the clone does not share its elements with the list.
+	 * @throws CloneNotSupportedException If the list can't be cloned.
+	 */
+	@Test
+	public void testCloneIndependent() throws CloneNotSupportedException {
+		list.add(s3);
+		list.add(s4);
+		AbstractList<String> clone = list.clone();
+		clone.set(0, s4);
+		assertEquals(s3, list.get(0));
+		clone.add(s3);
+		assertEquals(Arrays.asList(s3, s4), new ArrayList<String>(list));
+		assertEquals(Arrays.asList(s4, s4, s3), new ArrayList<String>(clone));
+	}
+	
+	/**
+	 * Tests the spliterator knows its size and splits in half.
+	 */
+	@Test
+	public void testSpliteratorSplit() {
+		for (int i = 0; i < 10; i++) {
+			list.add(Integer.toString(i));
+		}
+		Spliterator<String> second = list.spliterator();
+		assertTrue(second.hasCharacteristics(Spliterator.SUBSIZED));
+		Spliterator<String> first = second.trySplit();
+		assertEquals(5, first.estimateSize());
+		assertEquals(5, second.estimateSize());
+		List<String> seen = new ArrayList<String>();
+		first.forEachRemaining(seen::add);
+		second.tryAdvance(seen::add);
+		second.forEachRemaining(seen::add);
+		assertEquals(list, seen);
+	}
+	
+	/**
+	 * Tests a parallel stream over the list sees every element once.
+	 */
+	@Test
+	public void testParallelStream() {
+		for (int i = 0; i < 100000; i++) {
+			list.add(Integer.toString(i));
+		}
+		assertEquals(4999950000L, list.stream().parallel()
+				.mapToLong(Long::parseLong).sum());
+		assertEquals(list, list.parallelStream()
+				.collect(Collectors.toList()));
+	}
+
+	/**
+	 * Tests that threads that only read the list and a view on it by
+	 * index all get the right elements.
+	 * @throws InterruptedException If the test is interrupted.
+	 */
+	@Test
+	public void testConcurrentReads() throws InterruptedException {
+		final int size = 1000;
+		for (int i = 0; i < size; i++) {
+			list.add(Integer.toString(i));
+		}
+		final List<String> view = list.subList(100, size);
+		final int[] wrong = new int[4];
+		Thread[] readers = new Thread[wrong.length];
+		for (int t = 0; t < readers.length; t++) {
+			final int reader = t;
+			readers[t] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					for (int round = 0; round < 200; round++) {
+						for (int i = reader; i < size - 100; i += 7) {
+							int index = (i * (reader + 1)) % (size - 100);
+							if (!list.get(index).equals(
+									Integer.toString(index))) {
+								wrong[reader]++;
+							}
+							if (!view.get(index).equals(
+									Integer.toString(index + 100))) {
+								wrong[reader]++;
+							}
+						}
+					}
+				}
+			});
+			readers[t].start();
+		}
+		for (Thread reader: readers) {
+			reader.join();
+		}
+		assertArrayEquals(new int[wrong.length], wrong);
+	}
+
 	/**
 	 * Sets the list to the given value.
 	 * @param list the list to set
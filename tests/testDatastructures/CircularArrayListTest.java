@@ -0,0 +1,257 @@
+package testDatastructures;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import datastructures.CircularArrayList;
+import datastructures.EmptyDataStructureException;
+
+/**
+ * Tests the circular array list class
+ * 
+ * @since 18-10-2026
+ * @version 18-10-2026
+ * 
+ * @see CircularArrayList
+ * 
+ * @author stefanboodt
+ *
+ */
+public class CircularArrayListTest extends AbstractListTest {
+
+	/**
+	 * The list under test.
+	 */
+	private CircularArrayList<String> list;
+	
+	/**
+	 * Some random string.
+	 */
+	private final String s1 = "kvlksndflknfhlkjsjfj487y2u3j";
+	
+	/**
+	 * Some random string.
+	 */
+	private final String s2 = "h82y3uhjkhabfjhonlkcjisfjdnslkf";
+	
+	/**
+	 * Some random string.
+	 */
+	private final String s3 = "Ofjisjfnkbdmvl?????jdsfnjksdnfopi9";
+	
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		setList(new CircularArrayList<String>());
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+	}
+	
+	/**
+	 * Tests the {@link CircularArrayList#addFirst(Object)}
+	 */
+	@Test
+	public void testAddFirst() {
+		list.add(s1);
+		list.add(s2);
+		list.addFirst(s3);
+		assertEquals(s3, list.get(0));
+		assertEquals(s2, list.get(2));
+	}
+	
+	/**
+	 * Tests the {@link CircularArrayList#addLast(Object)}
+	 */
+	@Test
+	public void testAddLast() {
+		list.add(s1);
+		list.add(s2);
+		list.addLast(s3);
+		assertEquals(s3, list.get(2));
+	}
+	
+	/**
+	 * Tests the {@link CircularArrayList#removeFirst()}
+	 */
+	@Test
+	public void testRemoveFirst() {
+		list.add(s1);
+		list.add(s2);
+		list.addFirst(s3);
+		assertEquals(s3, list.removeFirst());
+		assertFalse(list.contains(s3));
+	}
+	
+	/**
+	 * Tests the {@link CircularArrayList#removeLast()}
+	 */
+	@Test
+	public void testRemoveLast() {
+		list.add(s1);
+		list.add(s2);
+		list.addLast(s3);
+		assertEquals(s3, list.removeLast());
+		assertFalse(list.contains(s3));
+	}
+	
+	/**
+	 * Tests the {@link CircularArrayList#removeFirst()}
+	 */
+	@Test (expected = EmptyDataStructureException.class)
+	public void testRemoveFirstEmpty() {
+		list.removeFirst();
+	}
+	
+	/**
+	 * Tests the {@link CircularArrayList#removeLast()}
+	 */
+	@Test (expected = EmptyDataStructureException.class)
+	public void testRemoveLastEmpty() {
+		list.removeLast();
+	}
+	
+	/**
+	 * Tests the {@link CircularArrayList#remove(int)}
+	 */
+	@Test (expected = IndexOutOfBoundsException.class)
+	public void testRemoveIndexEmpty2() {
+		list.add(s1);
+		list.remove(-1);
+	}
+	
+	/**
+	 * Tests the {@link CircularArrayList#remove(int)}
+	 */
+	@Test (expected = EmptyDataStructureException.class)
+	public void testRemoveIndexEmpty() {
+		list.remove(0);
+	}
+	
+	/**
+	 * Tests the list keeps its order when it grows while it wraps
+	 * around the end of the array.
+	 */
+	@Test
+	public void testGrowWrapped() {
+		CircularArrayList<Integer> numbers = new CircularArrayList<Integer>(4);
+		for (int i = 0; i < 50; i++) {
+			numbers.addFirst(-i);
+			numbers.addLast(i);
+		}
+		assertEquals(100, numbers.size());
+		for (int i = 0; i < 50; i++) {
+			assertEquals(Integer.valueOf(i - 49), numbers.get(i));
+			assertEquals(Integer.valueOf(i), numbers.get(50 + i));
+		}
+	}
+	
+	/**
+	 * Tests adding and removing in the middle, which moves the elements
+	 * on either side.
+	 */
+	@Test
+	public void testAddRemoveMiddle() {
+		CircularArrayList<Integer> numbers = new CircularArrayList<Integer>(4);
+		for (int i = 0; i < 10; i++) {
+			numbers.add(i);
+		}
+		numbers.add(2, 20);
+		numbers.add(8, 80);
+		assertEquals(new CircularArrayList<Integer>(0, 1, 20, 2, 3, 4, 5, 6,
+				80, 7, 8, 9), numbers);
+		assertEquals(Integer.valueOf(20), numbers.remove(2));
+		assertEquals(Integer.valueOf(80), numbers.remove(7));
+		assertEquals(new CircularArrayList<Integer>(0, 1, 2, 3, 4, 5, 6,
+				7, 8, 9), numbers);
+	}
+	
+	/**
+	 * Tests the {@link CircularArrayList#rotate(int)}
+	 */
+	@Test
+	public void testRotate() {
+		list.add(s1);
+		list.add(s2);
+		list.add(s3);
+		list.rotate(1);
+		assertEquals(new CircularArrayList<String>(s2, s3, s1), list);
+		list.rotate(-1);
+		assertEquals(new CircularArrayList<String>(s1, s2, s3), list);
+		list.rotate(5);
+		assertEquals(new CircularArrayList<String>(s3, s1, s2), list);
+	}
+	
+	/**
+	 * Tests the {@link CircularArrayList#rotate(int)} of a full array.
+	 */
+	@Test
+	public void testRotateFull() {
+		CircularArrayList<Integer> numbers = new CircularArrayList<Integer>(
+				0, 1, 2, 3);
+		numbers.rotate(3);
+		assertEquals(new CircularArrayList<Integer>(3, 0, 1, 2), numbers);
+		numbers.add(4);
+		assertEquals(new CircularArrayList<Integer>(3, 0, 1, 2, 4), numbers);
+	}
+
+	/**
+	 * Tests that an iterator fails fast when the list is rotated while
+	 * it iterates, also when the array is full.
+	 */
+	@Test
+	public void testRotateDuringIteration() {
+		CircularArrayList<Integer> numbers = new CircularArrayList<Integer>(
+				0, 1, 2, 3);
+		Iterator<Integer> it = numbers.iterator();
+		assertEquals(Integer.valueOf(0), it.next());
+		numbers.rotate(1);
+		try {
+			it.next();
+			fail("The iterator went on over the rotated list");
+		} catch (ConcurrentModificationException e) {
+			// expected
+		}
+		numbers.add(4);
+		Spliterator<Integer> spliterator = numbers.spliterator();
+		numbers.rotate(-2);
+		try {
+			spliterator.tryAdvance(e -> { });
+			fail("The spliterator went on over the rotated list");
+		} catch (ConcurrentModificationException e) {
+			// expected
+		}
+	}
+
+	/**
+	 * Tests that rotating by a multiple of the size doesn't stop an
+	 * iterator, because nothing moves.
+	 */
+	@Test
+	public void testRotateNothingDuringIteration() {
+		list.add(s1);
+		list.add(s2);
+		Iterator<String> it = list.iterator();
+		list.rotate(0);
+		list.rotate(-2);
+		assertEquals(s1, it.next());
+		assertEquals(s2, it.next());
+	}
+
+	/**
+	 * Sets the list under test.
+	 * @param list the list to set
+	 */
+	protected final void setList(CircularArrayList<String> list) {
+		this.list = list;
+		super.setList(list);
+	}
+}
@@ -2,6 +2,8 @@ package testDatastructures;
 
 import static org.junit.Assert.*;
 
+import java.util.*;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -197,6 +199,95 @@ public class CircularLinkedListTest extends AbstractListTest {
 		assertEquals(2, list.size());
 	}
 	
+	/**
+	 * Tests the {@link CircularLinkedList#removeLast()} keeps the links
+	 * between the remaining nodes.
+	 */
+	@Test
+	public void testRemoveLastThenAdd() {
+		list.add(s1);
+		list.add(s2);
+		list.removeLast();
+		list.addLast(s3);
+		assertEquals(new CircularLinkedList<String>(s1, s3), list);
+	}
+	
+	/**
+	 * Tests the {@link CircularLinkedList#remove(int)} of the last index
+	 * moves the tail.
+	 */
+	@Test
+	public void testRemoveTailIndexThenAdd() {
+		list.add(s1);
+		list.add(s2);
+		list.remove(1);
+		list.add(s3);
+		assertEquals(new CircularLinkedList<String>(s1, s3), list);
+	}
+	
+	/**
+	 * Tests adding at the end with the ListIterator moves the tail.
+	 */
+	@Test
+	public void testListIteratorAddAtEnd() {
+		list.add(s1);
+		ListIterator<String> it = list.listIterator(1);
+		it.add(s2);
+		list.addLast(s3);
+		assertEquals(new CircularLinkedList<String>(s1, s2, s3), list);
+	}
+	
+	/**
+	 * Tests adding to an empty list with the ListIterator.
+	 */
+	@Test
+	public void testListIteratorAddEmpty() {
+		ListIterator<String> it = list.listIterator();
+		it.add(s1);
+		it.add(s2);
+		assertEquals(s2, it.previous());
+		assertEquals(new CircularLinkedList<String>(s1, s2), list);
+	}
+	
+	/**
+	 * Tests the {@link CircularLinkedList#get(int)} walking forwards and
+	 * backwards, which starts from the node looked up last.
+	 */
+	@Test
+	public void testGetSequential() {
+		CircularLinkedList<Integer> numbers = new CircularLinkedList<Integer>();
+		for (int i = 0; i < 100; i++) {
+			numbers.add(i);
+		}
+		for (int i = 0; i < 100; i++) {
+			assertEquals(Integer.valueOf(i), numbers.get(i));
+		}
+		for (int i = 99; i >= 0; i -= 3) {
+			assertEquals(Integer.valueOf(i), numbers.get(i));
+		}
+		assertEquals(Integer.valueOf(5), numbers.get(105));
+	}
+	
+	/**
+	 * Tests the {@link CircularLinkedList#get(int)} after the list has
+	 * changed around the node looked up last.
+	 */
+	@Test
+	public void testGetAfterChange() {
+		list.add(s1);
+		list.add(s2);
+		list.add(s3);
+		assertEquals(s2, list.get(1));
+		list.remove(0);
+		assertEquals(s3, list.get(1));
+		list.addFirst(s1);
+		assertEquals(s2, list.get(1));
+		list.removeLast();
+		list.add(1, s3);
+		assertEquals(s3, list.get(1));
+		assertEquals(s2, list.get(2));
+	}
+	
 	/**
 	 * Sets the list under test.
 	 * @param list the list to set
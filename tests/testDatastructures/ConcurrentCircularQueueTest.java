@@ -0,0 +1,314 @@
+package testDatastructures;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import datastructures.ConcurrentCircularQueue;
+import datastructures.ConcurrentCircularQueue.WaitStrategy;
+
+/**
+ * Tests the ConcurrentCircularQueue class.
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see ConcurrentCircularQueue
+ *
+ * @author stefanboodt
+ *
+ */
+public class ConcurrentCircularQueueTest {
+
+	/**
+	 * The queue under test.
+	 */
+	private ConcurrentCircularQueue<Integer> queue;
+
+	/**
+	 * Creates a queue with room for 4 elements.
+	 */
+	@Before
+	public void setUp() {
+		queue = new ConcurrentCircularQueue<Integer>(4);
+	}
+
+	/**
+	 * Tests the capacity is rounded up to a power of two.
+	 */
+	@Test
+	public void testCapacity() {
+		assertEquals(8, new ConcurrentCircularQueue<Integer>(5).capacity());
+	}
+
+	/**
+	 * Tests the elements come out in the order they went in, also when
+	 * the positions go around the ring.
+	 */
+	@Test
+	public void testFifo() {
+		for (int i = 0; i < 10; i++) {
+			assertTrue(queue.offer(i));
+			assertTrue(queue.offer(i + 100));
+			assertEquals(Integer.valueOf(i), queue.peek());
+			assertEquals(Integer.valueOf(i), queue.poll());
+			assertEquals(Integer.valueOf(i + 100), queue.poll());
+		}
+		assertNull(queue.poll());
+		assertTrue(queue.isEmpty());
+	}
+
+	/**
+	 * Tests the {@link ConcurrentCircularQueue#offer(Object)} of a full
+	 * queue.
+	 */
+	@Test
+	public void testOfferFull() {
+		for (int i = 0; i < 4; i++) {
+			assertTrue(queue.offer(i));
+		}
+		assertFalse(queue.offer(4));
+		assertEquals(4, queue.size());
+		assertEquals(0, queue.remainingCapacity());
+	}
+
+	/**
+	 * Tests null elements are refused.
+	 */
+	@Test (expected = NullPointerException.class)
+	public void testOfferNull() {
+		queue.offer(null);
+	}
+
+	/**
+	 * Tests the {@link ConcurrentCircularQueue#offerAll(Collection)}
+	 * adds as much as there is room for.
+	 */
+	@Test
+	public void testOfferAll() {
+		queue.offer(0);
+		assertEquals(3, queue.offerAll(Arrays.asList(1, 2, 3, 4, 5)));
+		assertEquals(Arrays.asList(0, 1, 2, 3), new ArrayList<Integer>(queue));
+	}
+
+	/**
+	 * Tests the {@link ConcurrentCircularQueue#offerAll(Collection)} with
+	 * a null element adds nothing and leaves the queue usable.
+	 */
+	@Test
+	public void testOfferAllNull() {
+		queue.offer(0);
+		try {
+			queue.offerAll(Arrays.asList(1, null, 3));
+			fail();
+		}
+		catch (NullPointerException e) {
+			// expected
+		}
+		assertEquals(1, queue.size());
+		assertTrue(queue.offer(4));
+		assertEquals(Integer.valueOf(0), queue.poll());
+		assertEquals(Integer.valueOf(4), queue.poll());
+		assertNull(queue.poll());
+		assertEquals(0, queue.size());
+	}
+	
+	/**
+	 * Tests the {@link ConcurrentCircularQueue#drainTo(Collection, int)}.
+	 */
+	@Test
+	public void testDrainTo() {
+		queue.offerAll(Arrays.asList(1, 2, 3));
+		List<Integer> drained = new ArrayList<Integer>();
+		assertEquals(2, queue.drainTo(drained, 2));
+		assertEquals(1, queue.drainTo(drained));
+		assertEquals(Arrays.asList(1, 2, 3), drained);
+		assertEquals(0, queue.drainTo(drained));
+		assertTrue(queue.offer(4));
+	}
+
+	/**
+	 * Tests a producer that blocks on a full queue is woken up by a
+	 * {@link ConcurrentCircularQueue#drainTo(Collection)} into a
+	 * collection that throws partway through the drain.
+	 * @throws InterruptedException If the test is interrupted.
+	 */
+	@Test
+	public void testDrainToThrowingWakesProducer()
+			throws InterruptedException {
+		queue.offerAll(Arrays.asList(1, 2, 3, 4));
+		Thread producer = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					queue.put(5);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+		producer.setDaemon(true);
+		producer.start();
+		for (int i = 0; i < 5000 && !parked(producer); i++) {
+			Thread.sleep(1);
+		}
+		assertTrue(parked(producer));
+		List<Integer> refusing = new ArrayList<Integer>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public boolean add(Integer e) {
+				if (size() == 1) {
+					throw new IllegalStateException();
+				}
+				return super.add(e);
+			}
+		};
+		try {
+			queue.drainTo(refusing);
+			fail("The collection accepted every element");
+		}
+		catch (IllegalStateException e) {
+			// expected
+		}
+		producer.join(5000);
+		assertFalse(producer.isAlive());
+		assertEquals(Integer.valueOf(5), queue.poll());
+	}
+
+	/**
+	 * Tells if the thread waits on a condition.
+	 * @param thread The thread to check.
+	 * @return true iff the thread is waiting.
+	 */
+	private static boolean parked(Thread thread) {
+		Thread.State state = thread.getState();
+		return state == Thread.State.WAITING
+				|| state == Thread.State.TIMED_WAITING;
+	}
+
+	/**
+	 * Tests the {@link ConcurrentCircularQueue#poll(long, TimeUnit)} of
+	 * an empty queue gives up.
+	 * @throws InterruptedException If the test is interrupted.
+	 */
+	@Test
+	public void testPollTimeout() throws InterruptedException {
+		assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+	}
+
+	/**
+	 * Tests a taking thread is woken up by a put.
+	 * @throws InterruptedException If the test is interrupted.
+	 */
+	@Test
+	public void testTakeWakesUp() throws InterruptedException {
+		final AtomicLong taken = new AtomicLong(-1);
+		Thread consumer = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					taken.set(queue.take());
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+		consumer.start();
+		Thread.sleep(20);
+		queue.put(42);
+		consumer.join(5000);
+		assertEquals(42, taken.get());
+	}
+
+	/**
+	 * Tests every strategy with several producers and consumers. Every
+	 * element has to come out exactly once.
+	 * @throws InterruptedException If the test is interrupted.
+	 */
+	@Test
+	public void testProducersConsumers() throws InterruptedException {
+		for (WaitStrategy strategy: WaitStrategy.values()) {
+			exchange(new ConcurrentCircularQueue<Integer>(64, strategy));
+		}
+	}
+
+	/**
+	 * Lets 3 producers put and 3 consumers take 30000 elements through
+	 * the queue. Half of them use the batch methods.
+	 * @param queue The queue to use.
+	 * @throws InterruptedException If the test is interrupted.
+	 */
+	private void exchange(final ConcurrentCircularQueue<Integer> queue)
+			throws InterruptedException {
+		final int threads = 3;
+		final int perThread = 10000;
+		final AtomicLong sum = new AtomicLong();
+		final AtomicLong count = new AtomicLong();
+		List<Thread> all = new ArrayList<Thread>();
+		for (int t = 0; t < threads; t++) {
+			final int producer = t;
+			all.add(new Thread(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						for (int i = 0; i < perThread; i++) {
+							queue.put(producer * perThread + i);
+						}
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+			}));
+			final boolean batch = t % 2 == 0;
+			all.add(new Thread(new Runnable() {
+				@Override
+				public void run() {
+					List<Integer> drained = new ArrayList<Integer>();
+					try {
+						for (int taken = 0; taken < perThread;) {
+							if (batch) {
+								drained.clear();
+								queue.drainTo(drained, perThread - taken);
+								if (drained.isEmpty()) {
+									drained.add(queue.take());
+								}
+							}
+							else {
+								drained.clear();
+								drained.add(queue.take());
+							}
+							for (int e: drained) {
+								sum.addAndGet(e);
+							}
+							count.addAndGet(drained.size());
+							taken += drained.size();
+						}
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+			}));
+		}
+		for (Thread thread: all) {
+			thread.start();
+		}
+		for (Thread thread: all) {
+			thread.join(30000);
+		}
+		long n = threads * perThread;
+		assertEquals(queue.getWaitStrategy().toString(), n, count.get());
+		assertEquals(queue.getWaitStrategy().toString(), n * (n - 1) / 2,
+				sum.get());
+		assertTrue(queue.isEmpty());
+	}
+}
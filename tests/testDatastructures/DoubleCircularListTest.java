@@ -0,0 +1,153 @@
+package testDatastructures;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import datastructures.DoubleCircularList;
+
+/**
+ * Tests the DoubleCircularList class. The behaviour the primitive lists
+ * share is tested in the {@link IntCircularListTest}, this class tests
+ * what is specific to doubles: the list compares values like
+ * {@link Double#equals(Object)} does, with
+ * {@link Double#doubleToLongBits(double)}, so NaN is found and 0.0 and
+ * -0.0 are different values.
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see DoubleCircularList
+ *
+ * @author stefanboodt
+ *
+ */
+public class DoubleCircularListTest {
+
+	/**
+	 * The list under test.
+	 */
+	private DoubleCircularList list;
+
+	/**
+	 * Creates an empty list.
+	 */
+	@Before
+	public void setUp() {
+		list = new DoubleCircularList(4);
+	}
+
+	/**
+	 * Tests that NaN can be found, even though NaN == NaN is false.
+	 */
+	@Test
+	public void testIndexOfNaN() {
+		list = DoubleCircularList.of(1.0, Double.NaN, 2.0, Double.NaN);
+		assertEquals(1, list.indexOf(Double.NaN));
+		assertEquals(3, list.lastIndexOf(Double.NaN));
+		assertTrue(list.contains(Double.NaN));
+		assertEquals(1, list.indexOf(Double.valueOf(Double.NaN)));
+		assertEquals(1, list.indexOf(0.0 / 0.0));
+		assertTrue(list.remove(Double.valueOf(Double.NaN)));
+		assertEquals(2, list.indexOf(Double.NaN));
+	}
+
+	/**
+	 * Tests that 0.0 and -0.0 are different values, even though
+	 * 0.0 == -0.0 is true.
+	 */
+	@Test
+	public void testIndexOfSignedZero() {
+		list = DoubleCircularList.of(-0.0, 1.0);
+		assertEquals(0, list.indexOf(-0.0));
+		assertEquals(-1, list.indexOf(0.0));
+		assertFalse(list.contains(0.0));
+		assertFalse(list.remove(Double.valueOf(0.0)));
+		list.addLast(0.0);
+		assertEquals(2, list.indexOf(0.0));
+		assertEquals(0, list.lastIndexOf(-0.0));
+		assertEquals(Double.doubleToLongBits(-0.0),
+				Double.doubleToLongBits(list.getDouble(0)));
+	}
+
+	/**
+	 * Tests that equality follows {@link Double#equals(Object)} for NaN
+	 * and -0.0, in both directions and against a List of boxed Doubles.
+	 */
+	@Test
+	public void testEqualsNaNAndSignedZero() {
+		list = DoubleCircularList.of(Double.NaN, -0.0);
+		List<Double> boxed = Arrays.asList(Double.NaN, -0.0);
+		assertTrue(list.equals(DoubleCircularList.of(Double.NaN, -0.0)));
+		assertTrue(list.equals(boxed));
+		assertTrue(boxed.equals(list));
+		assertFalse(list.equals(DoubleCircularList.of(Double.NaN, 0.0)));
+		assertFalse(list.equals(Arrays.asList(Double.NaN, 0.0)));
+	}
+
+	/**
+	 * Tests that the hash code matches that of a List of boxed Doubles
+	 * and so agrees with equals on NaN and -0.0.
+	 */
+	@Test
+	public void testHashCode() {
+		list = DoubleCircularList.of(Double.NaN, -0.0, 0.0,
+				Double.NEGATIVE_INFINITY, Double.MIN_VALUE);
+		assertEquals(Arrays.asList(Double.NaN, -0.0, 0.0,
+				Double.NEGATIVE_INFINITY, Double.MIN_VALUE).hashCode(),
+				list.hashCode());
+		assertEquals(DoubleCircularList.of(Double.NaN).hashCode(),
+				DoubleCircularList.of(0.0 / 0.0).hashCode());
+		assertNotEquals(DoubleCircularList.of(0.0).hashCode(),
+				DoubleCircularList.of(-0.0).hashCode());
+	}
+
+	/**
+	 * Tests that the values are kept bit for bit, also when the array
+	 * grows and wraps around.
+	 */
+	@Test
+	public void testValuesKept() {
+		double[] values = {Double.MAX_VALUE, -0.0, Double.MIN_VALUE,
+				Double.NaN, Double.POSITIVE_INFINITY};
+		list.addLast(values[2]);
+		list.addFirst(values[1]);
+		list.addFirst(values[0]);
+		list.addLast(values[3]);
+		list.addLast(values[4]);
+		double[] array = list.toDoubleArray();
+		assertEquals(values.length, array.length);
+		for (int i = 0; i < values.length; i++) {
+			assertEquals(Double.doubleToLongBits(values[i]),
+					Double.doubleToLongBits(array[i]));
+			assertEquals(Double.valueOf(values[i]), list.get(i));
+		}
+	}
+
+	/**
+	 * Tests that a null can not be unboxed into the list and leaves
+	 * the list as it was.
+	 */
+	@Test
+	public void testAddNull() {
+		list.addLast(3.0);
+		try {
+			list.add((Double) null);
+			fail("A null was added");
+		} catch (NullPointerException e) {
+			// expected
+		}
+		try {
+			list.set(0, null);
+			fail("A null was set");
+		} catch (NullPointerException e) {
+			// expected
+		}
+		assertEquals(1, list.size());
+		assertEquals(3.0, list.getDouble(0), 0.0);
+	}
+}
@@ -0,0 +1,165 @@
+package testDatastructures;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import datastructures.IntCircularList;
+import datastructures.EmptyDataStructureException;
+import interfaces.ResetableIntIterator;
+
+/**
+ * Tests the IntCircularList class.
+ * 
+ * @since 18-10-2026
+ * @version 18-10-2026
+ * 
+ * @see IntCircularList
+ * 
+ * @author stefanboodt
+ *
+ */
+public class IntCircularListTest {
+
+	/**
+	 * The list under test.
+	 */
+	private IntCircularList list;
+	
+	/**
+	 * Creates an empty list.
+	 */
+	@Before
+	public void setUp() {
+		list = new IntCircularList(4);
+	}
+	
+	/**
+	 * Tests the {@link IntCircularList#addFirst(int)} and
+	 * {@link IntCircularList#addLast(int)} while the list grows.
+	 */
+	@Test
+	public void testAddFirstAddLast() {
+		for (int i = 0; i < 20; i++) {
+			list.addFirst(-i);
+			list.addLast(i);
+		}
+		assertEquals(40, list.size());
+		for (int i = 0; i < 20; i++) {
+			assertEquals(i - 19, list.getInt(i));
+			assertEquals(i, list.getInt(20 + i));
+		}
+	}
+	
+	/**
+	 * Tests the {@link IntCircularList#removeFirst()} and
+	 * {@link IntCircularList#removeLast()}.
+	 */
+	@Test
+	public void testRemoveFirstRemoveLast() {
+		list = IntCircularList.of(1, 2, 3);
+		assertEquals(1, list.removeFirst());
+		assertEquals(3, list.removeLast());
+		assertEquals(1, list.size());
+	}
+	
+	/**
+	 * Tests the {@link IntCircularList#removeFirst()} of an empty list.
+	 */
+	@Test (expected = EmptyDataStructureException.class)
+	public void testRemoveFirstEmpty() {
+		list.removeFirst();
+	}
+	
+	/**
+	 * Tests the {@link IntCircularList#removeInt(int)} and the boxed
+	 * methods of the List interface.
+	 */
+	@Test
+	public void testRemoveAndBoxed() {
+		list = IntCircularList.of(1, 2, 3, 4, 5);
+		assertEquals(2, list.removeInt(1));
+		list.add(1, Integer.valueOf(7));
+		assertEquals(Integer.valueOf(7), list.get(1));
+		assertTrue(list.remove(Integer.valueOf(4)));
+		assertEquals(IntCircularList.of(1, 7, 3, 5), list);
+	}
+	
+	/**
+	 * Tests the {@link IntCircularList#indexOf(int)} and
+	 * {@link IntCircularList#contains(int)}.
+	 */
+	@Test
+	public void testIndexOf() {
+		list = IntCircularList.of(5, 6, 5);
+		assertEquals(0, list.indexOf(5));
+		assertEquals(2, list.lastIndexOf(5));
+		assertEquals(-1, list.indexOf(7));
+		assertTrue(list.contains(Integer.valueOf(6)));
+		assertFalse(list.contains("6"));
+	}
+	
+	/**
+	 * Tests the {@link IntCircularList#rotate(int)} and
+	 * {@link IntCircularList#toIntArray()}.
+	 */
+	@Test
+	public void testRotate() {
+		list = IntCircularList.of(1, 2, 3);
+		list.rotate(2);
+		assertArrayEquals(new int[] {3, 1, 2}, list.toIntArray());
+		list.rotate(-1);
+		assertArrayEquals(new int[] {2, 3, 1}, list.toIntArray());
+	}
+
+	/**
+	 * Tests that an iterator fails fast when the list is rotated while
+	 * it iterates.
+	 */
+	@Test (expected = java.util.ConcurrentModificationException.class)
+	public void testRotateDuringIteration() {
+		list = IntCircularList.of(1, 2, 3);
+		ResetableIntIterator it = list.iterator();
+		it.nextInt();
+		list.rotate(1);
+		it.nextInt();
+	}
+
+	/**
+	 * Tests the iterator walks over the values and can be reset.
+	 */
+	@Test
+	public void testIterator() {
+		list = IntCircularList.of(1, 2);
+		ResetableIntIterator it = list.iterator();
+		assertEquals(1, it.nextInt());
+		assertEquals(2, it.nextInt());
+		assertFalse(it.hasNext());
+		it.reset();
+		assertEquals(1, it.nextInt());
+	}
+	
+	/**
+	 * Tests a parallel stream over the values sees every value once.
+	 */
+	@Test
+	public void testParallelStream() {
+		for (int i = 0; i < 10000; i++) {
+			list.addLast(i);
+		}
+		assertEquals(49995000, list.intStream().parallel().sum());
+		assertEquals(list.size(), list.spliterator().getExactSizeIfKnown());
+	}
+	
+	/**
+	 * Tests the hash code is the same as the one of a boxed list.
+	 */
+	@Test
+	public void testHashCode() {
+		list = IntCircularList.of(1, 2, 3);
+		assertEquals(java.util.Arrays.asList(Integer.valueOf(1),
+				Integer.valueOf(2), Integer.valueOf(3)).hashCode(),
+				list.hashCode());
+	}
+}
@@ -0,0 +1,164 @@
+package testDatastructures;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import datastructures.LongCircularList;
+
+/**
+ * Tests the LongCircularList class. The behaviour the primitive lists
+ * share is tested in the {@link IntCircularListTest}, this class tests
+ * what is specific to longs: values outside of the int range and the
+ * boxing to and from Long.
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see LongCircularList
+ *
+ * @author stefanboodt
+ *
+ */
+public class LongCircularListTest {
+
+	/**
+	 * The list under test.
+	 */
+	private LongCircularList list;
+
+	/**
+	 * Creates an empty list.
+	 */
+	@Before
+	public void setUp() {
+		list = new LongCircularList(4);
+	}
+
+	/**
+	 * Tests that values outside of the int range are kept whole, also
+	 * when the array grows and wraps around.
+	 */
+	@Test
+	public void testOutsideIntRange() {
+		list.addLast(Long.MAX_VALUE);
+		list.addFirst(Long.MIN_VALUE);
+		list.addLast(1L << 32);
+		list.addFirst(-(1L << 32) - 1);
+		list.addLast(Integer.MAX_VALUE + 1L);
+		assertArrayEquals(new long[] {-(1L << 32) - 1, Long.MIN_VALUE,
+				Long.MAX_VALUE, 1L << 32, Integer.MAX_VALUE + 1L},
+				list.toLongArray());
+		assertEquals(Long.MAX_VALUE, list.getLong(2));
+		assertEquals(Long.valueOf(Long.MIN_VALUE), list.get(1));
+		assertEquals(Long.MIN_VALUE, list.removeLong(1));
+		assertEquals(Integer.MAX_VALUE + 1L, list.removeLast());
+	}
+
+	/**
+	 * Tests that values that only differ in the upper 32 bits are not
+	 * mixed up by the lookups.
+	 */
+	@Test
+	public void testIndexOfUpperBits() {
+		list = LongCircularList.of(1L, 1L << 32, (1L << 32) + 1);
+		assertEquals(0, list.indexOf(1L));
+		assertEquals(1, list.indexOf(1L << 32));
+		assertEquals(2, list.indexOf((1L << 32) + 1));
+		assertEquals(-1, list.indexOf(0L));
+		assertFalse(list.contains(1L << 33));
+	}
+
+	/**
+	 * Tests that the List methods only find boxed Longs. An Integer
+	 * with the same value is a different Object, like in other lists.
+	 */
+	@Test
+	public void testBoxedLookup() {
+		list = LongCircularList.of(1L, 2L, 1L);
+		assertEquals(-1, list.indexOf(Integer.valueOf(1)));
+		assertEquals(-1, list.lastIndexOf(Integer.valueOf(1)));
+		assertFalse(list.contains(Integer.valueOf(1)));
+		assertFalse(list.remove(Integer.valueOf(1)));
+		assertEquals(0, list.indexOf(Long.valueOf(1)));
+		assertEquals(2, list.lastIndexOf(Long.valueOf(1)));
+		assertTrue(list.contains(Long.valueOf(2)));
+		assertFalse(list.contains(null));
+		assertEquals(-1, list.indexOf(null));
+	}
+
+	/**
+	 * Tests that {@link LongCircularList#remove(int)} removes at the
+	 * index and {@link LongCircularList#remove(Object)} removes the
+	 * value.
+	 */
+	@Test
+	public void testRemoveOverloads() {
+		list = LongCircularList.of(5L, 0L, 7L);
+		assertEquals(Long.valueOf(5), list.remove(0));
+		assertTrue(list.remove(Long.valueOf(7)));
+		assertArrayEquals(new long[] {0L}, list.toLongArray());
+	}
+
+	/**
+	 * Tests that a null can not be unboxed into the list and leaves
+	 * the list as it was.
+	 */
+	@Test
+	public void testAddNull() {
+		list.addLast(3L);
+		try {
+			list.add((Long) null);
+			fail("A null was added");
+		} catch (NullPointerException e) {
+			// expected
+		}
+		try {
+			list.add(0, null);
+			fail("A null was added");
+		} catch (NullPointerException e) {
+			// expected
+		}
+		try {
+			list.set(0, null);
+			fail("A null was set");
+		} catch (NullPointerException e) {
+			// expected
+		}
+		assertArrayEquals(new long[] {3L}, list.toLongArray());
+	}
+
+	/**
+	 * Tests that the sum of the long stream does not go through ints.
+	 */
+	@Test
+	public void testStreamSum() {
+		for (int i = 0; i < 4; i++) {
+			list.addLast(Integer.MAX_VALUE);
+		}
+		assertEquals(4L * Integer.MAX_VALUE, list.longStream().sum());
+		assertEquals(4L * Integer.MAX_VALUE,
+				list.longStream().parallel().sum());
+	}
+
+	/**
+	 * Tests that the hash code and equality match those of a List of
+	 * boxed Longs, also for values outside of the int range.
+	 */
+	@Test
+	public void testHashCodeEquals() {
+		list = LongCircularList.of(Long.MIN_VALUE, -1L, 1L << 32,
+				Long.MAX_VALUE);
+		List<Long> boxed = Arrays.asList(Long.MIN_VALUE, -1L,
+				1L << 32, Long.MAX_VALUE);
+		assertEquals(boxed.hashCode(), list.hashCode());
+		assertTrue(list.equals(boxed));
+		assertTrue(boxed.equals(list));
+		assertFalse(list.equals(Arrays.asList(Long.MIN_VALUE, -1L, 0L,
+				Long.MAX_VALUE)));
+	}
+}
@@ -0,0 +1,265 @@
+package testDatastructures;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import datastructures.EmptyDataStructureException;
+import datastructures.PersistentCircularList;
+import interfaces.ResetableIterator;
+
+/**
+ * Tests the persistent circular list class
+ * 
+ * @since 18-10-2026
+ * @version 18-10-2026
+ * 
+ * @see PersistentCircularList
+ * 
+ * @author stefanboodt
+ *
+ */
+public class PersistentCircularListTest {
+
+	/**
+	 * A list of the numbers 0 up to 10.
+	 */
+	private PersistentCircularList<Integer> list;
+	
+	/**
+	 * Creates the list.
+	 */
+	@Before
+	public void setUp() {
+		list = PersistentCircularList.empty();
+		for (int i = 0; i < 10; i++) {
+			list = list.plus(i);
+		}
+	}
+	
+	/**
+	 * Tests the empty list.
+	 */
+	@Test
+	public void testEmpty() {
+		PersistentCircularList<String> empty = PersistentCircularList.empty();
+		assertTrue(empty.isEmpty());
+		assertFalse(empty.iterator().hasNext());
+		assertEquals(empty, new PersistentCircularList<String>());
+		assertSame(empty, empty.rotate(3));
+	}
+	
+	/**
+	 * Tests the {@link PersistentCircularList#get(int)} goes around the
+	 * circle.
+	 */
+	@Test
+	public void testGet() {
+		assertEquals(10, list.size());
+		for (int i = 0; i < 10; i++) {
+			assertEquals(Integer.valueOf(i), list.get(i));
+		}
+		assertEquals(Integer.valueOf(3), list.get(13));
+	}
+	
+	/**
+	 * Tests the {@link PersistentCircularList#get(int)} of an empty list.
+	 */
+	@Test (expected = IndexOutOfBoundsException.class)
+	public void testGetEmpty() {
+		PersistentCircularList.empty().get(0);
+	}
+	
+	/**
+	 * Tests the {@link PersistentCircularList#minus(int)} of an empty
+	 * list.
+	 */
+	@Test (expected = EmptyDataStructureException.class)
+	public void testMinusEmpty() {
+		PersistentCircularList.empty().minusFirst();
+	}
+	
+	/**
+	 * Tests the old versions stay the same when new ones are made.
+	 */
+	@Test
+	public void testVersionsAreKept() {
+		PersistentCircularList<Integer> added = list.plusFirst(-1);
+		PersistentCircularList<Integer> removed = list.minus(4);
+		PersistentCircularList<Integer> replaced = list.with(2, 20);
+		assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9),
+				new ArrayList<Integer>(list));
+		assertEquals(Arrays.asList(-1, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9),
+				new ArrayList<Integer>(added));
+		assertEquals(Arrays.asList(0, 1, 2, 3, 5, 6, 7, 8, 9),
+				new ArrayList<Integer>(removed));
+		assertEquals(Arrays.asList(0, 1, 20, 3, 4, 5, 6, 7, 8, 9),
+				new ArrayList<Integer>(replaced));
+	}
+	
+	/**
+	 * Tests the {@link PersistentCircularList#plus(int, Object)} at the
+	 * size and past it.
+	 */
+	@Test
+	public void testPlusIndex() {
+		assertEquals(Integer.valueOf(10), list.plus(10, 10).get(10));
+		assertEquals(Integer.valueOf(11), list.plus(11, 11).get(1));
+	}
+	
+	/**
+	 * Tests the {@link PersistentCircularList#minusFirst()} and the
+	 * {@link PersistentCircularList#minusLast()}.
+	 */
+	@Test
+	public void testMinusEnds() {
+		assertEquals(PersistentCircularList.of(1, 2, 3, 4, 5, 6, 7, 8),
+				list.minusFirst().minusLast());
+	}
+	
+	/**
+	 * Tests the {@link PersistentCircularList#rotate(int)}
+	 */
+	@Test
+	public void testRotate() {
+		PersistentCircularList<Integer> small = PersistentCircularList.of(
+				0, 1, 2);
+		assertEquals(PersistentCircularList.of(1, 2, 0), small.rotate(1));
+		assertEquals(PersistentCircularList.of(2, 0, 1), small.rotate(-1));
+		assertEquals(PersistentCircularList.of(2, 0, 1), small.rotate(5));
+		assertSame(small, small.rotate(3));
+	}
+	
+	/**
+	 * Tests the {@link PersistentCircularList#slice(int, int)} and the
+	 * {@link PersistentCircularList#plusAll(PersistentCircularList)}.
+	 */
+	@Test
+	public void testSliceAndJoin() {
+		PersistentCircularList<Integer> first = list.slice(0, 4);
+		PersistentCircularList<Integer> second = list.slice(4, 10);
+		assertEquals(PersistentCircularList.of(0, 1, 2, 3), first);
+		assertEquals(list, first.plusAll(second));
+		assertTrue(list.slice(3, 3).isEmpty());
+	}
+	
+	/**
+	 * Tests the methods that would change the list are refused.
+	 */
+	@Test
+	public void testUnsupported() {
+		List<Runnable> changes = Arrays.asList(
+				() -> list.add(1),
+				() -> list.add(0, 1),
+				() -> list.set(0, 1),
+				() -> list.remove(0),
+				() -> list.remove(Integer.valueOf(1)),
+				() -> list.clear(),
+				() -> list.addAll(Arrays.asList(1)),
+				() -> list.removeIf(e -> true),
+				() -> list.retainAll(Arrays.asList(1)),
+				() -> list.listIterator().add(1));
+		for (Runnable change: changes) {
+			try {
+				change.run();
+				fail();
+			}
+			catch (UnsupportedOperationException e) {
+				// expected
+			}
+		}
+		assertEquals(10, list.size());
+	}
+	
+	/**
+	 * Tests the reset of the iterator.
+	 */
+	@Test
+	public void testIteratorReset() {
+		ResetableIterator<Integer> it = list.iterator();
+		while (it.hasNext()) {
+			it.next();
+		}
+		it.reset();
+		assertEquals(Integer.valueOf(0), it.next());
+	}
+	
+	/**
+	 * Tests a reader keeps seeing its version while a writer makes new
+	 * ones.
+	 */
+	@Test
+	public void testSnapshot() {
+		PersistentCircularList<Integer> snapshot = list;
+		Iterator<Integer> it = snapshot.iterator();
+		it.next();
+		list = list.minusFirst().plus(10).with(5, 50);
+		int expected = 1;
+		while (it.hasNext()) {
+			assertEquals(Integer.valueOf(expected++), it.next());
+		}
+		assertEquals(10, expected);
+	}
+	
+	/**
+	 * Tests random changes give the same lists as an ArrayList, for
+	 * every version.
+	 */
+	@Test
+	public void testRandomOperations() {
+		Random random = new Random(25);
+		PersistentCircularList<Integer> current = PersistentCircularList.empty();
+		List<Integer> expected = new ArrayList<Integer>();
+		for (int i = 0; i < 3000; i++) {
+			PersistentCircularList<Integer> previous = current;
+			List<Integer> before = new ArrayList<Integer>(expected);
+			int op = random.nextInt(5);
+			if (op < 2 || expected.isEmpty()) {
+				int index = random.nextInt(expected.size() + 1);
+				current = current.plus(index, i);
+				expected.add(index, i);
+			}
+			else if (op == 2) {
+				int index = random.nextInt(expected.size());
+				current = current.minus(index);
+				expected.remove(index);
+			}
+			else if (op == 3) {
+				int index = random.nextInt(expected.size());
+				current = current.with(index, i);
+				expected.set(index, i);
+			}
+			else {
+				int k = random.nextInt(expected.size());
+				current = current.rotate(k);
+				Collections.rotate(expected, -k);
+			}
+			assertEquals(before, new ArrayList<Integer>(previous));
+		}
+		assertEquals(expected, new ArrayList<Integer>(current));
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i), current.get(i));
+		}
+	}
+	
+	/**
+	 * Tests a parallel stream over the list sees every element once.
+	 */
+	@Test
+	public void testParallelStream() {
+		Integer[] numbers = new Integer[100000];
+		for (int i = 0; i < numbers.length; i++) {
+			numbers[i] = i;
+		}
+		PersistentCircularList<Integer> large = PersistentCircularList.of(
+				numbers);
+		assertEquals(4999950000L, large.stream().parallel()
+				.mapToLong(Integer::longValue).sum());
+		assertEquals(Arrays.asList(numbers), large.parallelStream()
+				.collect(Collectors.toList()));
+	}
+}
@@ -0,0 +1,259 @@
+package testDatastructures;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import datastructures.EmptyDataStructureException;
+import datastructures.UnrolledCircularList;
+
+/**
+ * Tests the unrolled circular list class
+ * 
+ * @since 18-10-2026
+ * @version 18-10-2026
+ * 
+ * @see UnrolledCircularList
+ * 
+ * @author stefanboodt
+ *
+ */
+public class UnrolledCircularListTest extends AbstractListTest {
+
+	/**
+	 * The list under test.
+	 */
+	private UnrolledCircularList<String> list;
+	
+	/**
+	 * Some random string.
+	 */
+	private final String s1 = "kvlksndflknfhlkjsjfj487y2u3j";
+	
+	/**
+	 * Some random string.
+	 */
+	private final String s2 = "h82y3uhjkhabfjhonlkcjisfjdnslkf";
+	
+	/**
+	 * Some random string.
+	 */
+	private final String s3 = "Ofjisjfnkbdmvl?????jdsfnjksdnfopi9";
+	
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		setList(new UnrolledCircularList<String>());
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+	}
+	
+	/**
+	 * Tests the {@link UnrolledCircularList#addFirst(Object)}
+	 */
+	@Test
+	public void testAddFirst() {
+		list.add(s1);
+		list.add(s2);
+		list.addFirst(s3);
+		assertEquals(s3, list.get(0));
+		assertEquals(s2, list.get(2));
+	}
+	
+	/**
+	 * Tests the {@link UnrolledCircularList#addLast(Object)}
+	 */
+	@Test
+	public void testAddLast() {
+		list.add(s1);
+		list.add(s2);
+		list.addLast(s3);
+		assertEquals(s3, list.get(2));
+		assertEquals(s1, list.get(3));
+	}
+	
+	/**
+	 * Tests the {@link UnrolledCircularList#removeFirst()}
+	 */
+	@Test
+	public void testRemoveFirst() {
+		list.add(s1);
+		list.add(s2);
+		list.addFirst(s3);
+		assertEquals(s3, list.removeFirst());
+		assertFalse(list.contains(s3));
+	}
+	
+	/**
+	 * Tests the {@link UnrolledCircularList#removeLast()}
+	 */
+	@Test
+	public void testRemoveLast() {
+		list.add(s1);
+		list.add(s2);
+		list.addLast(s3);
+		assertEquals(s3, list.removeLast());
+		assertFalse(list.contains(s3));
+	}
+	
+	/**
+	 * Tests the {@link UnrolledCircularList#removeFirst()}
+	 */
+	@Test (expected = EmptyDataStructureException.class)
+	public void testRemoveFirstEmpty() {
+		list.removeFirst();
+	}
+	
+	/**
+	 * Tests the {@link UnrolledCircularList#removeLast()}
+	 */
+	@Test (expected = EmptyDataStructureException.class)
+	public void testRemoveLastEmpty() {
+		list.removeLast();
+	}
+	
+	/**
+	 * Tests the {@link UnrolledCircularList#remove(int)}
+	 */
+	@Test (expected = EmptyDataStructureException.class)
+	public void testRemoveIndexEmpty() {
+		list.remove(0);
+	}
+	
+	/**
+	 * Tests a chunk capacity below 2 is refused.
+	 */
+	@Test (expected = IllegalArgumentException.class)
+	public void testIllegalChunkCapacity() {
+		new UnrolledCircularList<String>(1);
+	}
+	
+	/**
+	 * Tests adding at both ends over many chunks.
+	 */
+	@Test
+	public void testAddBothEnds() {
+		UnrolledCircularList<Integer> numbers =
+				new UnrolledCircularList<Integer>(4);
+		for (int i = 0; i < 50; i++) {
+			numbers.addFirst(-i);
+			numbers.addLast(i);
+		}
+		assertEquals(100, numbers.size());
+		for (int i = 0; i < 50; i++) {
+			assertEquals(Integer.valueOf(i - 49), numbers.get(i));
+			assertEquals(Integer.valueOf(i), numbers.get(50 + i));
+		}
+		assertEquals(Integer.valueOf(-49), numbers.get(100));
+	}
+	
+	/**
+	 * Tests adding into full chunks splits them and removing merges
+	 * them again, while the order stays the same.
+	 */
+	@Test
+	public void testSplitMerge() {
+		UnrolledCircularList<Integer> numbers =
+				new UnrolledCircularList<Integer>(4);
+		for (int i = 0; i < 8; i++) {
+			numbers.add(i);
+		}
+		numbers.add(2, 20);
+		numbers.add(4, 40);
+		numbers.add(7, 70);
+		assertEquals(Arrays.asList(0, 1, 20, 2, 40, 3, 4, 70, 5, 6, 7),
+				new ArrayList<Integer>(numbers));
+		assertEquals(Integer.valueOf(20), numbers.remove(2));
+		assertEquals(Integer.valueOf(40), numbers.remove(3));
+		assertEquals(Integer.valueOf(70), numbers.remove(5));
+		assertEquals(new UnrolledCircularList<Integer>(0, 1, 2, 3, 4, 5, 6,
+				7), numbers);
+		while (!numbers.isEmpty()) {
+			numbers.remove(numbers.size() / 2);
+		}
+		numbers.add(1);
+		assertEquals(Integer.valueOf(1), numbers.get(0));
+	}
+	
+	/**
+	 * Tests random adds and removes give the same list as an ArrayList.
+	 */
+	@Test
+	public void testRandomOperations() {
+		Random random = new Random(24);
+		UnrolledCircularList<Integer> numbers =
+				new UnrolledCircularList<Integer>(4);
+		List<Integer> expected = new ArrayList<Integer>();
+		for (int i = 0; i < 5000; i++) {
+			int op = random.nextInt(4);
+			if (op < 2 || expected.isEmpty()) {
+				int index = random.nextInt(expected.size() + 1);
+				numbers.add(index, i);
+				expected.add(index, i);
+			}
+			else if (op == 2) {
+				int index = random.nextInt(expected.size());
+				assertEquals(expected.remove(index), numbers.remove(index));
+			}
+			else {
+				int index = random.nextInt(expected.size());
+				assertEquals(expected.get(index), numbers.get(index));
+			}
+		}
+		assertEquals(expected, new ArrayList<Integer>(numbers));
+	}
+	
+	/**
+	 * Tests the spliterator splits in the middle of a chunk and walks on
+	 * over the next chunks.
+	 */
+	@Test
+	public void testSpliteratorAcrossChunks() {
+		UnrolledCircularList<Integer> numbers =
+				new UnrolledCircularList<Integer>(4);
+		for (int i = 0; i < 11; i++) {
+			numbers.add(i);
+		}
+		Spliterator<Integer> second = numbers.spliterator();
+		Spliterator<Integer> first = second.trySplit();
+		Spliterator<Integer> third = second.trySplit();
+		assertEquals(5, first.estimateSize());
+		assertEquals(3, third.estimateSize());
+		assertEquals(3, second.estimateSize());
+		List<Integer> seen = new ArrayList<Integer>();
+		first.forEachRemaining(seen::add);
+		third.forEachRemaining(seen::add);
+		second.forEachRemaining(seen::add);
+		assertEquals(numbers, seen);
+	}
+	
+	/**
+	 * Tests the iterator fails when the list changes.
+	 */
+	@Test (expected = ConcurrentModificationException.class)
+	public void testIteratorComodification() {
+		list.add(s1);
+		list.add(s2);
+		Iterator<String> it = list.iterator();
+		it.next();
+		list.add(s3);
+		it.next();
+	}
+	
+	/**
+	 * Sets the list under test.
+	 * @param list the list to set
+	 */
+	protected final void setList(UnrolledCircularList<String> list) {
+		this.list = list;
+		super.setList(list);
+	}
+}
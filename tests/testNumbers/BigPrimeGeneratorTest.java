@@ -0,0 +1,109 @@
+package testNumbers;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.List;
+
+import numbers.BigPrimeGenerator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import concurrency.ThreadPool;
+
+/**
+ * Tests the BigPrimeGenerator class.
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see BigPrimeGenerator
+ *
+ * @author stefanboodt
+ *
+ */
+public class BigPrimeGeneratorTest {
+
+	/**
+	 * The pool used by the generators.
+	 */
+	private ThreadPool pool;
+
+	/**
+	 * Sets up the pool.
+	 */
+	@Before
+	public void setUp() {
+		pool = new ThreadPool(2);
+	}
+
+	/**
+	 * Closes the pool.
+	 * @throws Exception If closing fails.
+	 */
+	@After
+	public void tearDown() throws Exception {
+		pool.close();
+	}
+
+	/**
+	 * Tests the {@link BigPrimeGenerator#nextPrime()} method.
+	 * @throws Exception If the search is interrupted.
+	 */
+	@Test
+	public void testNextPrime() throws Exception {
+		BigPrimeGenerator generator = new BigPrimeGenerator(256, pool);
+		for (int i = 0; i < 5; i++) {
+			BigInteger prime = generator.nextPrime();
+			assertEquals(256, prime.bitLength());
+			assertTrue(prime.isProbablePrime(100));
+		}
+	}
+
+	/**
+	 * Tests the {@link BigPrimeGenerator#nextPrimes(int)} method.
+	 * @throws Exception If the search is interrupted.
+	 */
+	@Test
+	public void testNextPrimes() throws Exception {
+		BigPrimeGenerator generator = new BigPrimeGenerator(512, pool);
+		List<BigInteger> primes = generator.nextPrimes(4);
+		assertEquals(4, primes.size());
+		for (BigInteger prime : primes) {
+			assertEquals(512, prime.bitLength());
+			assertTrue(prime.isProbablePrime(100));
+		}
+		assertEquals(4, new HashSet<BigInteger>(primes).size());
+	}
+
+	/**
+	 * Tests the {@link BigPrimeGenerator#getPrimesPerSecond()} method.
+	 * @throws Exception If the search is interrupted.
+	 */
+	@Test
+	public void testPrimesPerSecond() throws Exception {
+		BigPrimeGenerator generator = new BigPrimeGenerator(128, pool);
+		assertEquals(0, generator.getPrimesPerSecond(), 0);
+		generator.nextPrimes(3);
+		assertTrue(generator.getPrimesPerSecond() > 0);
+	}
+
+	/**
+	 * Tests that primes that fit in a long are refused.
+	 */
+	@Test (expected = IllegalArgumentException.class)
+	public void testTooFewBits() {
+		new BigPrimeGenerator(32, pool);
+	}
+
+	/**
+	 * Tests the {@link BigPrimeGenerator#getBits()} method.
+	 */
+	@Test
+	public void testGetBits() {
+		assertEquals(1024, new BigPrimeGenerator(1024, pool).getBits());
+	}
+}
@@ -1,9 +1,20 @@
 package testNumbers;
 
 import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
 import org.junit.*;
 
+import concurrency.ThreadPool;
 import numbers.BufferedPrimeNumberGenerator;
+import numbers.MillerRabin;
+import numbers.PersistenceMode;
 import numbers.PrimeNumberGenerator;
 
 /**
@@ -79,6 +90,228 @@ public class BufferedPrimeNumberGeneratorTest extends PrimeNumberGeneratorTest {
 		assertTrue(generator.isPrime(5));
 	}
 
+	/**
+	 * Tests the {@link BufferedPrimeNumberGenerator#isPrime(long)} with
+	 * a composite number that is in the buffer.
+	 */
+	@Test
+	public void testIsPrimeCompositeInBuffer() {
+		assertFalse(generator.isPrime(9991));
+	}
+	
+	/**
+	 * Tests the {@link BufferedPrimeNumberGenerator#isPrime(long)} with
+	 * a prime above the buffer that is checked with the buffered primes.
+	 */
+	@Test
+	public void testIsPrimeAboveBuffer() {
+		assertTrue(generator.isPrime(1000000007L));
+	}
+	
+	/**
+	 * Tests the {@link BufferedPrimeNumberGenerator#isPrime(long)} with
+	 * a composite above the buffer.
+	 */
+	@Test
+	public void testIsPrimeCompositeAboveBuffer() {
+		assertFalse(generator.isPrime(1000000007L * 3));
+	}
+	
+	/**
+	 * Tests that the binary store exists once the buffer is set up and
+	 * saved.
+	 * @throws Exception If saving fails.
+	 */
+	@Test
+	public void testStoreExists() throws Exception {
+		generator.save();
+		assertTrue(new File("files/primenumbers.bin").exists());
+	}
+	
+	/**
+	 * Tests the {@link BufferedPrimeNumberGenerator#isPrime(long[],
+	 * boolean[])} method with numbers in and above the buffer.
+	 */
+	@Test
+	public void testIsPrimeBatch() {
+		long[] in = new long[30000];
+		for (int i = 0; i < in.length; i++) {
+			in[i] = i % 3 == 0 ? i * 1000L + 1 : i % 3 == 1 ? i - 5
+					: 1000000000000L + i;
+		}
+		boolean[] out = new boolean[in.length];
+		generator.isPrime(in, out);
+		for (int i = 0; i < in.length; i++) {
+			assertEquals(MillerRabin.isPrime(in[i]), out[i]);
+		}
+	}
+	
+	/**
+	 * Tests that the journal is the default persistence mode.
+	 */
+	@Test
+	public void testDefaultPersistenceMode() {
+		assertEquals(PersistenceMode.JOURNAL, generator.getPersistenceMode());
+	}
+	
+	/**
+	 * Tests the {@link BufferedPrimeNumberGenerator#setPersistenceMode(
+	 * PersistenceMode)} method.
+	 */
+	@Test
+	public void testSetPersistenceMode() {
+		generator.setPersistenceMode(PersistenceMode.REWRITE);
+		assertEquals(PersistenceMode.REWRITE, generator.getPersistenceMode());
+	}
+	
+	/**
+	 * Tests the {@link BufferedPrimeNumberGenerator#setPersistenceMode(
+	 * PersistenceMode)} method with null.
+	 */
+	@Test (expected = IllegalArgumentException.class)
+	public void testSetPersistenceModeNull() {
+		generator.setPersistenceMode(null);
+	}
+	
+	/**
+	 * Tests that a journaled save followed by a rewrite still gives a
+	 * store with correct primes.
+	 * @throws Exception If saving fails.
+	 */
+	@Test
+	public void testSaveModes() throws Exception {
+		generator.isPrime(1999993);
+		generator.save();
+		generator.setPersistenceMode(PersistenceMode.REWRITE);
+		generator.isPrime(3999971);
+		generator.save();
+		assertTrue(new File("files/primenumbers.bin").exists());
+		assertFalse(new File("files/primenumbers.bin.journal").exists());
+		assertTrue(generator.isPrime(1999993));
+		assertFalse(generator.isPrime(1999991));
+	}
+	
+	/**
+	 * Tests that generators on several threads can query and grow the
+	 * shared buffer at the same time.
+	 * @throws Exception If a task fails.
+	 */
+	@Test
+	public void testConcurrentQueries() throws Exception {
+		ThreadPool pool = new ThreadPool(4);
+		List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+		for (int t = 0; t < 4; t++) {
+			final long offset = t;
+			results.add(pool.submit(new Callable<Integer>() {
+				public Integer call() {
+					BufferedPrimeNumberGenerator gen =
+							new BufferedPrimeNumberGenerator();
+					int wrong = 0;
+					for (long n = 900000 + offset; n < 4000000; n += 4) {
+						if (gen.isPrime(n) != MillerRabin.isPrime(n)) {
+							wrong++;
+						}
+					}
+					return wrong;
+				}
+			}));
+		}
+		for (Future<Integer> result : results) {
+			assertEquals(Integer.valueOf(0), result.get());
+		}
+		pool.close();
+	}
+	
+	/**
+	 * Tests the {@link BufferedPrimeNumberGenerator#nthPrime(long)}
+	 * method with a prime in the buffer.
+	 */
+	@Test
+	public void testNthPrimeInBuffer() {
+		assertEquals(2, generator.nthPrime(1));
+		assertEquals(104729, generator.nthPrime(10000));
+	}
+	
+	/**
+	 * Tests the {@link BufferedPrimeNumberGenerator#nthPrime(long)}
+	 * method with a prime far above the buffer.
+	 */
+	@Test
+	public void testNthPrimeAboveBuffer() {
+		assertEquals(86028121, generator.nthPrime(5000000));
+	}
+	
+	/**
+	 * Tests the {@link BufferedPrimeNumberGenerator#nthPrime(long)}
+	 * method with an invalid index.
+	 */
+	@Test (expected = IllegalArgumentException.class)
+	public void testNthPrime0() {
+		generator.nthPrime(0);
+	}
+	
+	/**
+	 * Tests the {@link BufferedPrimeNumberGenerator#primeCount(long)}
+	 * method.
+	 */
+	@Test
+	public void testPrimeCount() {
+		assertEquals(0, generator.primeCount(1));
+		assertEquals(4, generator.primeCount(7));
+		assertEquals(25, generator.primeCount(100));
+		assertEquals(50847534, generator.primeCount(1000000000L));
+	}
+	
+	/**
+	 * Tests the {@link BufferedPrimeNumberGenerator#nextPrime(long)}
+	 * method.
+	 */
+	@Test
+	public void testNextPrime() {
+		assertEquals(2, generator.nextPrime(-5));
+		assertEquals(11, generator.nextPrime(7));
+		assertEquals(1000000000039L, generator.nextPrime(1000000000000L));
+	}
+	
+	/**
+	 * Tests the {@link BufferedPrimeNumberGenerator#nextPrime(long)}
+	 * method when there is no larger prime that fits in a long.
+	 */
+	@Test
+	public void testNextPrime2() {
+		assertEquals(9223372036854775783L,
+				generator.nextPrime(Long.MAX_VALUE - 30));
+		for (long x: new long[] {9223372036854775783L, Long.MAX_VALUE}) {
+			try {
+				generator.nextPrime(x);
+				fail("No prime above " + x);
+			}
+			catch (NoSuchElementException e) {
+				// expected
+			}
+		}
+	}
+	
+	/**
+	 * Tests the {@link BufferedPrimeNumberGenerator#prevPrime(long)}
+	 * method.
+	 */
+	@Test
+	public void testPrevPrime() {
+		assertEquals(2, generator.prevPrime(3));
+		assertEquals(7, generator.prevPrime(11));
+		assertEquals(999999999989L, generator.prevPrime(1000000000000L));
+	}
+	
+	/**
+	 * Tests the {@link BufferedPrimeNumberGenerator#prevPrime(long)}
+	 * method when there is no smaller prime.
+	 */
+	@Test (expected = NoSuchElementException.class)
+	public void testPrevPrime2() {
+		generator.prevPrime(2);
+	}
+	
 	public void setGenerator(BufferedPrimeNumberGenerator gen) {
 		super.setGenerator(gen);
 		generator = gen;
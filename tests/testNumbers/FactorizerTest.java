@@ -0,0 +1,133 @@
+package testNumbers;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import numbers.Factorizer;
+import numbers.MillerRabin;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the Factorizer class.
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see Factorizer
+ *
+ * @author stefanboodt
+ *
+ */
+public class FactorizerTest {
+
+	/**
+	 * The factorizer used in the tests.
+	 */
+	private Factorizer factorizer;
+
+	/**
+	 * Sets up the factorizer.
+	 */
+	@Before
+	public void setUp() {
+		factorizer = new Factorizer();
+	}
+
+	/**
+	 * Tests the {@link Factorizer#factor(long)} method with small
+	 * numbers.
+	 */
+	@Test
+	public void testFactorSmall() {
+		assertArrayEquals(new long[0], factorizer.factor(1));
+		assertArrayEquals(new long[] {2}, factorizer.factor(2));
+		assertArrayEquals(new long[] {2, 2, 3}, factorizer.factor(12));
+		assertArrayEquals(new long[] {3, 5, 7}, factorizer.factor(105));
+		assertArrayEquals(new long[] {97}, factorizer.factor(97));
+	}
+
+	/**
+	 * Tests the {@link Factorizer#factor(long)} method with numbers that
+	 * need the rho method.
+	 */
+	@Test
+	public void testFactorLarge() {
+		assertArrayEquals(new long[] {1000003, 1000003},
+				factorizer.factor(1000003L * 1000003L));
+		assertArrayEquals(new long[] {3037000453L, 3037000493L},
+				factorizer.factor(3037000453L * 3037000493L));
+		assertArrayEquals(new long[] {7, 7, 73, 127, 337, 92737, 649657},
+				factorizer.factor(Long.MAX_VALUE));
+		assertArrayEquals(new long[] {9223372036854775783L},
+				factorizer.factor(9223372036854775783L));
+	}
+
+	/**
+	 * Tests the {@link Factorizer#factor(long)} method with random
+	 * numbers. The factors should be primes in increasing order with
+	 * the number as product.
+	 */
+	@Test
+	public void testFactorRandom() {
+		Random random = new Random(42);
+		for (int i = 0; i < 20000; i++) {
+			long number = 1 + (random.nextLong() >>> (i % 2 == 0 ? 24 : 1));
+			checkFactors(number, factorizer.factor(number));
+		}
+	}
+
+	/**
+	 * Tests the {@link Factorizer#factor(long)} method with 0.
+	 */
+	@Test (expected = IllegalArgumentException.class)
+	public void testFactor0() {
+		factorizer.factor(0);
+	}
+
+	/**
+	 * Tests the {@link Factorizer#factorAll(long[])} method.
+	 */
+	@Test
+	public void testFactorAll() {
+		Random random = new Random(7);
+		long[] numbers = new long[50000];
+		for (int i = 0; i < numbers.length; i++) {
+			numbers[i] = 1 + (random.nextLong() >>> 24);
+		}
+		long[][] factors = factorizer.factorAll(numbers, new ForkJoinPool(4));
+		assertEquals(numbers.length, factors.length);
+		for (int i = 0; i < numbers.length; i++) {
+			checkFactors(numbers[i], factors[i]);
+		}
+	}
+
+	/**
+	 * Tests the {@link Factorizer#factorAll(long[])} method without
+	 * numbers.
+	 */
+	@Test
+	public void testFactorAllEmpty() {
+		assertEquals(0, factorizer.factorAll(new long[0]).length);
+	}
+
+	/**
+	 * Checks that the factors are the prime factorization of the number.
+	 * @param number The number that was factored.
+	 * @param factors The factors found.
+	 */
+	private void checkFactors(long number, long[] factors) {
+		long product = 1;
+		for (int i = 0; i < factors.length; i++) {
+			assertTrue(MillerRabin.isPrime(factors[i]));
+			if (i > 0) {
+				assertTrue(factors[i - 1] <= factors[i]);
+			}
+			product *= factors[i];
+		}
+		assertEquals(number, product);
+	}
+}
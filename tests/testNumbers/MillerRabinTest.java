@@ -0,0 +1,95 @@
+package testNumbers;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+
+import numbers.MillerRabin;
+import numbers.SegmentedSieve;
+
+import org.junit.Test;
+
+/**
+ * Tests the MillerRabin class.
+ * 
+ * @since 18-10-2026
+ * @version 18-10-2026
+ * 
+ * @see MillerRabin
+ * 
+ * @author stefanboodt
+ *
+ */
+public class MillerRabinTest {
+
+	/**
+	 * Tests the {@link MillerRabin#isPrime(long)} method against the
+	 * primes found by a sieve.
+	 */
+	@Test
+	public void testAgainstSieve() {
+		SegmentedSieve sieve = new SegmentedSieve();
+		long prime = sieve.nextPrime();
+		for (long n = -10; n < 200000; n++) {
+			boolean expected = n == prime;
+			if (expected) {
+				prime = sieve.nextPrime();
+			}
+			assertEquals(expected, MillerRabin.isPrime(n));
+		}
+	}
+	
+	/**
+	 * Tests the {@link MillerRabin#isPrime(long)} method with numbers
+	 * that fool the test for some witnesses.
+	 */
+	@Test
+	public void testStrongPseudoprimes() {
+		assertFalse(MillerRabin.isPrime(3215031751L));
+		assertFalse(MillerRabin.isPrime(4759123141L));
+		assertFalse(MillerRabin.isPrime(2152302898747L));
+		assertFalse(MillerRabin.isPrime(3474749660383L));
+		assertFalse(MillerRabin.isPrime(341550071728321L));
+		assertFalse(MillerRabin.isPrime(3825123056546413051L));
+	}
+	
+	/**
+	 * Tests the {@link MillerRabin#isPrime(long)} method with numbers
+	 * just below 2^40, where fewer witnesses are used.
+	 */
+	@Test
+	public void testBelow2To40() {
+		assertFalse(MillerRabin.isPrime(1122004669633L));
+		for (long n = (1L << 40) - 20001; n < 1L << 40; n += 2) {
+			assertEquals(BigInteger.valueOf(n).isProbablePrime(50),
+					MillerRabin.isPrime(n));
+		}
+	}
+	
+	/**
+	 * Tests the {@link MillerRabin#isPrime(long)} method with the
+	 * largest prime that fits in a long.
+	 */
+	@Test
+	public void testLargestPrime() {
+		assertTrue(MillerRabin.isPrime(9223372036854775783L));
+	}
+	
+	/**
+	 * Tests the {@link MillerRabin#isPrime(long)} method with the
+	 * largest long.
+	 */
+	@Test
+	public void testMaxValue() {
+		assertFalse(MillerRabin.isPrime(Long.MAX_VALUE));
+	}
+	
+	/**
+	 * Tests the {@link MillerRabin#isPrime(long)} method with a square
+	 * of a large prime.
+	 */
+	@Test
+	public void testSquare() {
+		assertFalse(MillerRabin.isPrime(1000000007L * 1000000007L));
+	}
+}
@@ -1,6 +1,12 @@
 package testNumbers;
 
 import static org.junit.Assert.*;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import numbers.MillerRabin;
+import numbers.PrimalityTest;
 import numbers.PrimeNumberGenerator;
 
 import org.junit.After;
@@ -131,6 +137,149 @@ public class PrimeNumberGeneratorTest {
 		assertTrue(generator.isPrime(11));
 	}
 	
+	/**
+	 * Tests the {@link PrimeNumberGenerator#next()} method.
+	 */
+	@Test
+	public void testNext() {
+		assertEquals(Long.valueOf(2), generator.next());
+		assertEquals(Long.valueOf(3), generator.next());
+		assertEquals(Long.valueOf(5), generator.next());
+	}
+	
+	/**
+	 * Tests the {@link PrimeNumberGenerator#nextLong()} method.
+	 */
+	@Test
+	public void testNextLong() {
+		assertEquals(2, generator.nextLong());
+		assertEquals(3, generator.nextLong());
+		assertEquals(Long.valueOf(5), generator.next());
+		assertEquals(7, generator.nextLong());
+	}
+	
+	/**
+	 * Tests the {@link PrimeNumberGenerator#reset()} method.
+	 */
+	@Test
+	public void testReset() {
+		generator.next();
+		generator.next();
+		generator.reset();
+		assertEquals(Long.valueOf(2), generator.next());
+	}
+	
+	/**
+	 * Tests that the generator stops after the given amount of steps.
+	 */
+	@Test
+	public void testSteps() {
+		PrimeNumberGenerator gen = new PrimeNumberGenerator(10, 2);
+		gen.next();
+		gen.next();
+		assertFalse(gen.hasNext());
+	}
+	
+	/**
+	 * Tests the {@link PrimeNumberGenerator#isPrime(long)} method with
+	 * the Miller-Rabin test selected.
+	 */
+	@Test
+	public void testIsPrimeMillerRabin() {
+		generator.setPrimalityTest(PrimalityTest.MILLER_RABIN);
+		assertTrue(generator.isPrime(9223372036854775783L));
+		assertFalse(generator.isPrime(9223372036854775781L));
+	}
+	
+	/**
+	 * Tests that trial division gives the same answers as the
+	 * Miller-Rabin test, also for squares and products of the primes
+	 * the wheel steps over.
+	 */
+	@Test
+	public void testIsPrimeTrialDivision() {
+		for (long n = -10; n < 100000; n++) {
+			assertEquals(MillerRabin.isPrime(n), generator.isPrime(n));
+		}
+		assertFalse(generator.isPrime(211L * 211L));
+		assertFalse(generator.isPrime(209L * 221L));
+		assertFalse(generator.isPrime(1000003L * 1000033L));
+		assertTrue(generator.isPrime(1000000000039L));
+	}
+	
+	/**
+	 * Tests the {@link PrimeNumberGenerator#isPrime(long[], boolean[])}
+	 * method against checking the numbers one by one.
+	 */
+	@Test
+	public void testIsPrimeBatch() {
+		long[] in = new long[20000];
+		for (int i = 0; i < in.length; i++) {
+			in[i] = i - 10 + (i % 7 == 0 ? 1000000000000L : 0);
+		}
+		boolean[] out = new boolean[in.length];
+		generator.isPrime(in, out);
+		for (int i = 0; i < in.length; i++) {
+			assertEquals(MillerRabin.isPrime(in[i]), out[i]);
+		}
+	}
+	
+	/**
+	 * Tests the {@link PrimeNumberGenerator#isPrime(long[], boolean[])}
+	 * method with the Miller-Rabin test and enough numbers to be split
+	 * over several threads.
+	 */
+	@Test
+	public void testIsPrimeBatchParallel() {
+		generator.setPrimalityTest(PrimalityTest.MILLER_RABIN);
+		Random random = new Random(5);
+		long[] in = new long[100000];
+		for (int i = 0; i < in.length; i++) {
+			in[i] = random.nextLong() >>> (i % 64);
+		}
+		boolean[] out = new boolean[in.length];
+		generator.isPrime(in, out);
+		for (int i = 0; i < in.length; i++) {
+			assertEquals(MillerRabin.isPrime(in[i]), out[i]);
+		}
+	}
+	
+	/**
+	 * Tests the {@link PrimeNumberGenerator#isPrime(long[])} method.
+	 */
+	@Test
+	public void testIsPrimeBitSet() {
+		BitSet primes = generator.isPrime(new long[] {1, 2, 3, 4, 5, 97,
+				10201, 10007});
+		assertEquals(5, primes.cardinality());
+		assertFalse(primes.get(0));
+		assertTrue(primes.get(1));
+		assertTrue(primes.get(2));
+		assertFalse(primes.get(3));
+		assertTrue(primes.get(4));
+		assertTrue(primes.get(5));
+		assertFalse(primes.get(6));
+		assertTrue(primes.get(7));
+	}
+	
+	/**
+	 * Tests the {@link PrimeNumberGenerator#isPrime(long[], boolean[])}
+	 * method with too little room for the answers.
+	 */
+	@Test (expected = IllegalArgumentException.class)
+	public void testIsPrimeBatchShort() {
+		generator.isPrime(new long[2], new boolean[1]);
+	}
+	
+	/**
+	 * Tests the default {@link PrimalityTest}.
+	 */
+	@Test
+	public void testDefaultPrimalityTest() {
+		assertEquals(PrimalityTest.TRIAL_DIVISION,
+				generator.getPrimalityTest());
+	}
+	
 	/**
 	 * Sets the generator to the given value.
 	 * @param gen The new generator.
@@ -0,0 +1,92 @@
+package testNumbers;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import numbers.PrimeRange;
+import numbers.SegmentedSieve;
+
+import org.junit.Test;
+
+/**
+ * Tests the PrimeRange class.
+ * 
+ * @since 18-10-2026
+ * @version 18-10-2026
+ * 
+ * @see PrimeRange
+ * 
+ * @author stefanboodt
+ *
+ */
+public class PrimeRangeTest {
+
+	/**
+	 * Tests the {@link PrimeRange#primes(long, long)} method with the
+	 * first primes.
+	 */
+	@Test
+	public void testPrimesSmall() {
+		assertArrayEquals(new long[] {2, 3, 5, 7}, PrimeRange.primes(0, 10));
+	}
+	
+	/**
+	 * Tests that the end of the range is not included.
+	 */
+	@Test
+	public void testPrimesEndExcluded() {
+		assertArrayEquals(new long[] {2}, PrimeRange.primes(2, 3));
+	}
+	
+	/**
+	 * Tests an empty range.
+	 */
+	@Test
+	public void testPrimesEmpty() {
+		assertEquals(0, PrimeRange.primes(10, 10).length);
+	}
+	
+	/**
+	 * Tests a negative start of the range.
+	 */
+	@Test (expected = IllegalArgumentException.class)
+	public void testPrimesNegative() {
+		PrimeRange.primes(-1, 10);
+	}
+	
+	/**
+	 * Tests the {@link PrimeRange#primes(long, long)} method against the
+	 * {@link SegmentedSieve}.
+	 */
+	@Test
+	public void testPrimesAgainstSieve() {
+		long from = 1000000000000L;
+		long[] primes = PrimeRange.primes(from, from + 100000);
+		SegmentedSieve sieve = new SegmentedSieve(from);
+		for (long p : primes) {
+			assertEquals(sieve.nextPrime(), p);
+		}
+		assertTrue(sieve.nextPrime() >= from + 100000);
+	}
+	
+	/**
+	 * Tests that the parallel version gives the same primes over several
+	 * chunks.
+	 */
+	@Test
+	public void testParallelPrimes() {
+		long from = 999999;
+		long to = 3100007;
+		assertArrayEquals(PrimeRange.primes(from, to),
+				PrimeRange.parallelPrimes(from, to, new ForkJoinPool(4)));
+	}
+	
+	/**
+	 * Tests the {@link PrimeRange#stream(long, long)} method.
+	 */
+	@Test
+	public void testStream() {
+		assertEquals(25, PrimeRange.stream(0, 100).count());
+	}
+}
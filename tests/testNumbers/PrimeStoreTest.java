@@ -0,0 +1,157 @@
+package testNumbers;
+
+import static org.junit.Assert.*;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import numbers.BufferedPrimeNumberGenerator;
+import numbers.MillerRabin;
+import numbers.PersistenceMode;
+
+/**
+ * Tests the binary store the BufferedPrimeNumberGenerator saves its
+ * buffer in. The store itself is not public, so it is tested through
+ * the saves of a generator and the files they leave behind.
+ *
+ * @since 18-10-2026
+ * @version 18-10-2026
+ *
+ * @see BufferedPrimeNumberGenerator#save()
+ *
+ * @author stefanboodt
+ *
+ */
+public class PrimeStoreTest {
+
+	/**
+	 * The file of the store.
+	 */
+	private static final File FILE = new File("files/primenumbers.bin");
+
+	/**
+	 * The journal of the store.
+	 */
+	private static final File JOURNAL =
+			new File("files/primenumbers.bin.journal");
+
+	/**
+	 * The size of the header of the file in bytes.
+	 */
+	private static final int HEADER_SIZE = 16;
+
+	/**
+	 * The generator used to save the buffer.
+	 */
+	private BufferedPrimeNumberGenerator generator;
+
+	/**
+	 * Creates the generator.
+	 */
+	@Before
+	public void setUp() {
+		generator = new BufferedPrimeNumberGenerator();
+	}
+
+	/**
+	 * Tests that a rewrite after a journaled save leaves a complete
+	 * file and no journal.
+	 * @throws Exception If the store can't be used.
+	 */
+	@Test
+	public void testRewriteAfterJournal() throws Exception {
+		grow(1 << 22);
+		generator.save();
+		grow(1 << 23);
+		generator.setPersistenceMode(PersistenceMode.REWRITE);
+		generator.save();
+		awaitMerge();
+		assertFalse(JOURNAL.exists());
+		assertEquals(FILE.length() - HEADER_SIZE, storedLength());
+	}
+
+	/**
+	 * Tests that a rewrite right after a journaled save that starts a
+	 * merge wins from the merge. The merge may not replace the file with
+	 * its smaller bitmap once the rewrite is done.
+	 * @throws Exception If the store can't be used.
+	 */
+	@Test
+	public void testRewriteDuringMerge() throws Exception {
+		for (long target = 1 << 22; target < 1 << 27; target <<= 2) {
+			generator.setPersistenceMode(PersistenceMode.JOURNAL);
+			grow(target);
+			// The journal gets large enough to start a merge.
+			generator.save();
+			generator.setPersistenceMode(PersistenceMode.REWRITE);
+			grow(2 * target);
+			generator.save();
+			long saved = FILE.length();
+			awaitMerge();
+			assertEquals(saved, FILE.length());
+			assertEquals(saved - HEADER_SIZE, storedLength());
+			assertFalse(JOURNAL.exists());
+		}
+	}
+
+	/**
+	 * Grows the buffer until it holds at least the primes below the
+	 * target, by asking for primes a bit above the limit each time.
+	 * @param target The number the buffer has to reach.
+	 */
+	private void grow(long target) {
+		for (long x = 1 << 20; x < target; x += x / 2) {
+			long prime = x;
+			while (!MillerRabin.isPrime(prime)) {
+				prime++;
+			}
+			assertTrue(generator.isPrime(prime));
+		}
+	}
+
+	/**
+	 * Waits until the temporary files of the store are gone. A merge
+	 * writes one before it moves it in place or removes it.
+	 * @throws InterruptedException If the thread is interrupted.
+	 */
+	private static void awaitMerge() throws InterruptedException {
+		FilenameFilter temporary = new FilenameFilter() {
+			@Override
+			public boolean accept(File dir, String name) {
+				return name.startsWith(FILE.getName())
+						&& name.endsWith(".tmp");
+			}
+		};
+		for (int i = 0; i < 200; i++) {
+			if (FILE.getAbsoluteFile().getParentFile()
+					.list(temporary).length == 0) {
+				return;
+			}
+			Thread.sleep(50);
+		}
+		fail("A merge left a temporary file behind");
+	}
+
+	/**
+	 * Reads the length of the bitmap from the header of the file.
+	 * @return The amount of bytes of the bitmap in the file.
+	 * @throws IOException If the file can't be read.
+	 */
+	private static long storedLength() throws IOException {
+		DataInputStream in = new DataInputStream(new FileInputStream(FILE));
+		try {
+			assertEquals(0x5052494D, in.readInt());
+			in.readInt();
+			return in.readLong();
+		}
+		finally {
+			in.close();
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package testNumbers;
+
+import static org.junit.Assert.*;
+import numbers.SegmentedSieve;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the SegmentedSieve class.
+ * 
+ * @since 18-10-2026
+ * @version 18-10-2026
+ * 
+ * @see SegmentedSieve
+ * 
+ * @author stefanboodt
+ *
+ */
+public class SegmentedSieveTest {
+
+	/**
+	 * The sieve under test.
+	 */
+	private SegmentedSieve sieve;
+	
+	/**
+	 * Creates a sieve that starts at the first prime.
+	 * @throws Exception If the set up fails.
+	 */
+	@Before
+	public void setUp() throws Exception {
+		sieve = new SegmentedSieve();
+	}
+	
+	/**
+	 * Tests the first primes returned by
+	 * {@link SegmentedSieve#nextPrime()}.
+	 */
+	@Test
+	public void testFirstPrimes() {
+		long[] primes = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29};
+		for (long p : primes) {
+			assertEquals(p, sieve.nextPrime());
+		}
+	}
+	
+	/**
+	 * Tests that a sieve starting at a prime returns that prime.
+	 */
+	@Test
+	public void testStartAtPrime() {
+		assertEquals(1000000007L, new SegmentedSieve(1000000007L).nextPrime());
+	}
+	
+	/**
+	 * Tests that a sieve starting at a composite returns the next prime.
+	 */
+	@Test
+	public void testStartAtComposite() {
+		assertEquals(1000000007L, new SegmentedSieve(1000000000L).nextPrime());
+	}
+	
+	/**
+	 * Tests that primes are found across the border of a segment.
+	 */
+	@Test
+	public void testSegmentBorder() {
+		long last = 0;
+		for (int i = 0; i < 10000; i++) {
+			last = sieve.nextPrime();
+		}
+		assertEquals(104729, last);
+	}
+	
+	/**
+	 * Tests the {@link SegmentedSieve#reset()} method.
+	 */
+	@Test
+	public void testReset() {
+		sieve.nextPrime();
+		sieve.nextPrime();
+		sieve.reset();
+		assertEquals(2, sieve.nextPrime());
+	}
+	
+	/**
+	 * Tests the {@link SegmentedSieve#hasNext()} method.
+	 */
+	@Test
+	public void testHasNext() {
+		assertTrue(sieve.hasNext());
+	}
+}